@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -22,11 +23,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncStorageManager;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -57,8 +58,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        // The data file path shown to the user must be the one in the chosen format
+        userPrefs.setAddressBookFilePath(addressBookStorage.getAddressBookFilePath());
+        storage = new AsyncStorageManager(addressBookStorage, userPrefsStorage, this::handleWriteFailure);
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,15 +70,39 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Logs {@code e}, the cause of a failed write of the data file, and shows it to the user at once.
+     */
+    private void handleWriteFailure(IOException e) {
+        logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        String format = e instanceof AccessDeniedException
+                ? LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT
+                : LogicManager.FILE_OPS_ERROR_FORMAT;
+        ui.showFeedback(String.format(format, e.getMessage()));
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file at {@code userPrefs}'s address book file path,
+     * in {@code userPrefs}'s address book file format. <br>
+     * If the file extension of the path is that of another format, it is replaced by that of the chosen format. If
+     * that data file does not exist yet, but a data file with the same name in another format does, the other data
+     * file will be converted into the chosen format.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        return AddressBookFileConverter.openStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.getAddressBookFileFormat());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If the data was read from {@code storage}, {@code storage} starts tracking the model's address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -90,7 +117,11 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        if (addressBookOptional.isPresent()) {
+            storage.trackAddressBook(modelManager.getAddressBook(), storage.getAddressBookFilePath());
+        }
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -177,6 +208,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,24 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable format, for editing by hand and exchanging data with other applications. */
+    JSON(".json"),
+    /** Compact format that is faster to load and save, for large data files. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension of data files in this format, including the leading dot.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -2,9 +2,15 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +38,40 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns every element of {@code items} whose key, as given by {@code keyExtractor}, was already
+     * produced by an earlier element. The returned elements are in encounter order.
+     */
+    public static <T> List<T> findDuplicates(Collection<? extends T> items, Function<? super T, ?> keyExtractor) {
+        requireAllNonNull(items, keyExtractor);
+        Set<Object> seenKeys = new HashSet<>();
+        List<T> duplicates = new ArrayList<>();
+        for (T item : items) {
+            if (!seenKeys.add(keyExtractor.apply(item))) {
+                duplicates.add(item);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Returns the index of the first element of {@code sortedItems} whose key, as given by {@code keyExtractor},
+     * is not less than {@code key}, or the size of {@code sortedItems} if there is no such element.
+     * {@code sortedItems} must be sorted in ascending order of key, and should support fast random access.
+     */
+    public static <T> int lowerBound(List<? extends T> sortedItems, long key, ToLongFunction<? super T> keyExtractor) {
+        requireAllNonNull(sortedItems, keyExtractor);
+        int low = 0;
+        int high = sortedItems.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyExtractor.applyAsLong(sortedItems.get(mid)) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 }
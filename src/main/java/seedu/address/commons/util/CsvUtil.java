@@ -0,0 +1,250 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing CSV data as described in RFC 4180.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Unterminated quoted field";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Unexpected text after closing quote of field %1$d";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * States of {@link #splitRecord(String)} while it scans a record.
+     */
+    private enum State {
+        /** At the start of a field, before any character of it. */
+        FIELD_START,
+        /** Inside a field that did not start with a quote. */
+        UNQUOTED,
+        /** Inside a quoted field. */
+        QUOTED,
+        /** Just after a quote inside a quoted field, which either closes the field or escapes another quote. */
+        QUOTE_IN_QUOTED,
+        /** After the closing quote of a quoted field. */
+        QUOTED_END
+    }
+
+    /**
+     * Splits a CSV {@code record} into its fields, removing the quotes around quoted fields and unescaping doubled
+     * quotes inside them. The record is scanned once, character by character.
+     * Whitespace before the opening quote or after the closing quote of a quoted field is ignored. Quoted fields may
+     * contain separators and line breaks.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by text other than a separator
+     */
+    public static List<String> splitRecord(String record) {
+        requireNonNull(record);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        State state = State.FIELD_START;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            switch (state) {
+            case FIELD_START:
+                if (c == QUOTE) {
+                    field.setLength(0);
+                    state = State.QUOTED;
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    // Keep the whitespace in case the field is not quoted after all
+                    field.append(c);
+                    if (!Character.isWhitespace(c)) {
+                        state = State.UNQUOTED;
+                    }
+                }
+                break;
+            case UNQUOTED:
+                if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    state = State.FIELD_START;
+                } else {
+                    field.append(c);
+                }
+                break;
+            case QUOTED:
+                if (c == QUOTE) {
+                    state = State.QUOTE_IN_QUOTED;
+                } else {
+                    field.append(c);
+                }
+                break;
+            case QUOTE_IN_QUOTED:
+                if (c == QUOTE) {
+                    field.append(QUOTE);
+                    state = State.QUOTED;
+                    break;
+                }
+                state = State.QUOTED_END;
+                // Fall through to handle the character after the closing quote
+            case QUOTED_END:
+                if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    state = State.FIELD_START;
+                } else if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_TEXT_AFTER_QUOTE, fields.size() + 1));
+                }
+                break;
+            default:
+                throw new AssertionError("Unknown state " + state);
+            }
+        }
+        if (state == State.QUOTED) {
+            throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Reads the next record that is not blank from {@code reader}, or returns null if there is none.
+     * A record continues onto the next line if it ends inside a quoted field, and its lines are joined with
+     * {@code \n}, so quoted fields may span several lines.
+     */
+    public static String readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.trim().isEmpty());
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder record = new StringBuilder(line);
+        State state = scan(line, State.FIELD_START);
+        while (state == State.QUOTED && (line = reader.readLine()) != null) {
+            record.append("\n").append(line);
+            // The line break is part of the quoted field, so the next line starts inside it
+            state = scan(line, State.QUOTED);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Returns {@code data} as a CSV field, with line breaks replaced by spaces. It is quoted, with its quotes
+     * doubled, if it contains a separator or a quote. Null is written as an empty field.
+     * {@link CsvWriter} escapes fields the same way as it writes them.
+     */
+    public static String escapeField(String data) {
+        if (data == null) {
+            return "";
+        }
+        boolean isQuoted = needsQuotes(data);
+        StringBuilder escapedData = new StringBuilder(data.length() + 2);
+        if (isQuoted) {
+            escapedData.append(QUOTE);
+        }
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c == QUOTE) {
+                escapedData.append(QUOTE).append(QUOTE);
+            } else if (isLineBreak(c)) {
+                if (!isCrlfStart(data, i)) {
+                    escapedData.append(' ');
+                }
+            } else {
+                escapedData.append(c);
+            }
+        }
+        if (isQuoted) {
+            escapedData.append(QUOTE);
+        }
+        return escapedData.toString();
+    }
+
+    /**
+     * Returns true if {@code data} has to be quoted to be written as a CSV field.
+     * Single quotes are quoted too, so that spreadsheet programs do not treat them as text markers.
+     */
+    static boolean needsQuotes(CharSequence data) {
+        for (int i = 0; i < data.length(); i++) {
+            if (needsQuotes(data.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean needsQuotes(char c) {
+        return c == SEPARATOR || c == QUOTE || c == '\'';
+    }
+
+    /**
+     * Returns true if {@code c} is a line break, as matched by {@code \R} in a regular expression.
+     */
+    static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u000B' || c == '\f' || c == '\u0085' || c == '\u2028'
+                || c == '\u2029';
+    }
+
+    /**
+     * Returns true if the character at {@code index} of {@code data} is the CR of a CRLF line break.
+     */
+    static boolean isCrlfStart(CharSequence data, int index) {
+        return data.charAt(index) == '\r' && index + 1 < data.length() && data.charAt(index + 1) == '\n';
+    }
+
+    /**
+     * Returns true if {@code text} ends inside a quoted field, i.e. the record it starts continues on the next line.
+     * As in {@link #splitRecord(String)}, only a quote at the start of a field opens a quoted field; a quote inside
+     * an unquoted field is part of its text.
+     */
+    public static boolean hasUnclosedQuote(String text) {
+        requireNonNull(text);
+        return scan(text, State.FIELD_START) == State.QUOTED;
+    }
+
+    /**
+     * Returns the state {@link #splitRecord(String)} would be in after scanning {@code text} from {@code state}.
+     * Text after the closing quote of a quoted field, which {@code splitRecord} rejects, is skipped.
+     */
+    private static State scan(String text, State state) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (state) {
+            case FIELD_START:
+                if (c == QUOTE) {
+                    state = State.QUOTED;
+                } else if (c != SEPARATOR && !Character.isWhitespace(c)) {
+                    state = State.UNQUOTED;
+                }
+                break;
+            case UNQUOTED:
+            case QUOTED_END:
+                if (c == SEPARATOR) {
+                    state = State.FIELD_START;
+                }
+                break;
+            case QUOTED:
+                if (c == QUOTE) {
+                    state = State.QUOTE_IN_QUOTED;
+                }
+                break;
+            case QUOTE_IN_QUOTED:
+                if (c == QUOTE) {
+                    state = State.QUOTED;
+                } else {
+                    state = c == SEPARATOR ? State.FIELD_START : State.QUOTED_END;
+                }
+                break;
+            default:
+                throw new AssertionError("Unknown state " + state);
+            }
+        }
+        return state;
+    }
+}
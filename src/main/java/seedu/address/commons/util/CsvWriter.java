@@ -0,0 +1,285 @@
+package seedu.address.commons.util;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Writes CSV records to a file, and optionally to a copy of it at the same time.
+ * <p>
+ * Fields are escaped as they are copied into a large buffer, character by character, without building strings.
+ * When the buffer is full it is encoded once and the same bytes are written to the file and to the copy, so the
+ * data is not read back to make the copy. If the copy cannot be created or written, it is dropped and writing
+ * continues to the file alone; see {@link #hasCopy()}.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final FileChannel channel;
+    private final Path copyPath;
+    private FileChannel copyChannel;
+    private boolean isAtRecordStart = true;
+
+    /**
+     * Creates a CsvWriter that writes to {@code path}, replacing it if it exists.
+     */
+    public CsvWriter(Path path) throws IOException {
+        requireNonNull(path);
+        this.channel = FileChannel.open(path, WRITE, CREATE, TRUNCATE_EXISTING);
+        this.copyPath = null;
+    }
+
+    /**
+     * Creates a CsvWriter that writes to {@code path}, replacing it if it exists, and to {@code copyPath} if it can
+     * be created. An existing file at {@code copyPath} is only replaced if {@code canReplaceCopy} is true.
+     */
+    public CsvWriter(Path path, Path copyPath, boolean canReplaceCopy) throws IOException {
+        requireNonNull(path);
+        requireNonNull(copyPath);
+        this.channel = FileChannel.open(path, WRITE, CREATE, TRUNCATE_EXISTING);
+        this.copyPath = copyPath;
+        try {
+            copyChannel = canReplaceCopy
+                    ? FileChannel.open(copyPath, WRITE, CREATE, TRUNCATE_EXISTING)
+                    : FileChannel.open(copyPath, WRITE, CREATE_NEW);
+        } catch (IOException e) {
+            copyChannel = null;
+        }
+    }
+
+    /**
+     * Returns true if everything written so far has also been written to the copy.
+     */
+    public boolean hasCopy() {
+        return copyChannel != null;
+    }
+
+    /**
+     * Writes {@code value} as the next field of the current record. Line breaks in it are replaced by spaces, and
+     * it is quoted, with its quotes doubled, if it contains a separator or a quote.
+     */
+    public CsvWriter writeField(CharSequence value) throws IOException {
+        requireNonNull(value);
+        startField();
+        boolean isQuoted = CsvUtil.needsQuotes(value);
+        if (isQuoted) {
+            put(QUOTE);
+        }
+        putEscaped(value);
+        if (isQuoted) {
+            put(QUOTE);
+        }
+        return this;
+    }
+
+    /**
+     * Writes {@code value} as the next field of the current record.
+     */
+    public CsvWriter writeField(long value) throws IOException {
+        startField();
+        putUnescaped(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes {@code values}, joined by {@code delimiter}, as the next field of the current record, escaped as in
+     * {@link #writeField(CharSequence)}.
+     */
+    public CsvWriter writeField(Iterable<? extends CharSequence> values, char delimiter) throws IOException {
+        requireNonNull(values);
+        startField();
+        boolean isQuoted = CsvUtil.needsQuotes(delimiter);
+        for (CharSequence value : values) {
+            isQuoted |= CsvUtil.needsQuotes(value);
+        }
+        if (isQuoted) {
+            put(QUOTE);
+        }
+        Iterator<? extends CharSequence> iterator = values.iterator();
+        while (iterator.hasNext()) {
+            putEscaped(iterator.next());
+            if (iterator.hasNext()) {
+                putEscaped(delimiter);
+            }
+        }
+        if (isQuoted) {
+            put(QUOTE);
+        }
+        return this;
+    }
+
+    /**
+     * Writes {@code record}, which must already be a valid CSV record, followed by a line break.
+     */
+    public void writeRawRecord(CharSequence record) throws IOException {
+        requireNonNull(record);
+        putUnescaped(record);
+        endRecord();
+    }
+
+    /**
+     * Ends the current record.
+     */
+    public void endRecord() throws IOException {
+        put('\n');
+        isAtRecordStart = true;
+    }
+
+    /**
+     * Writes everything buffered and closes the file and the copy.
+     * If the file or the copy could not be written completely, the copy is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            chars.flip();
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        } catch (IOException e) {
+            // An incomplete file should not be left behind as a complete-looking copy
+            dropCopy();
+            throw e;
+        } finally {
+            channel.close();
+            if (copyChannel != null) {
+                try {
+                    copyChannel.close();
+                } catch (IOException e) {
+                    dropCopy();
+                }
+            }
+        }
+    }
+
+    private void startField() throws IOException {
+        if (!isAtRecordStart) {
+            put(SEPARATOR);
+        }
+        isAtRecordStart = false;
+    }
+
+    /**
+     * Copies {@code value} into the buffer, replacing line breaks by spaces and doubling quotes.
+     */
+    private void putEscaped(CharSequence value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            // A CRLF line break is replaced by a single space, when its LF is reached
+            if (!CsvUtil.isCrlfStart(value, i)) {
+                putEscaped(value.charAt(i));
+            }
+        }
+    }
+
+    private void putEscaped(char c) throws IOException {
+        if (c == QUOTE) {
+            put(QUOTE);
+            put(QUOTE);
+        } else if (CsvUtil.isLineBreak(c)) {
+            put(' ');
+        } else {
+            put(c);
+        }
+    }
+
+    private void putUnescaped(CharSequence value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            put(value.charAt(i));
+        }
+    }
+
+    private void put(char c) throws IOException {
+        if (!chars.hasRemaining()) {
+            chars.flip();
+            encode(false);
+            chars.compact();
+        }
+        chars.put(c);
+    }
+
+    /**
+     * Encodes the characters remaining in the buffer, writing out the bytes whenever the byte buffer is full.
+     * A surrogate pair split across the end of the buffer is left in it unless {@code isEndOfInput} is true.
+     */
+    private void encode(boolean isEndOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, isEndOfInput);
+            if (result.isOverflow()) {
+                writeBytes();
+            } else if (result.isUnderflow()) {
+                return;
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    /**
+     * Writes the encoded bytes to the file and the copy, and empties the byte buffer.
+     */
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        if (copyChannel != null) {
+            ByteBuffer copyBytes = bytes.duplicate();
+            try {
+                while (copyBytes.hasRemaining()) {
+                    copyChannel.write(copyBytes);
+                }
+            } catch (IOException e) {
+                dropCopy();
+            }
+        }
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            // An incomplete file should not be left behind as a complete-looking copy
+            dropCopy();
+            throw e;
+        }
+        bytes.clear();
+    }
+
+    /**
+     * Stops writing to the copy and deletes it.
+     */
+    private void dropCopy() {
+        if (copyChannel == null) {
+            return;
+        }
+        try {
+            copyChannel.close();
+        } catch (IOException ignored) {
+            // The copy is deleted anyway
+        }
+        copyChannel = null;
+        try {
+            Files.deleteIfExists(copyPath);
+        } catch (IOException ignored) {
+            // Nothing more can be done about a copy that cannot be deleted
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +83,23 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, right after its first {@code offset} bytes.
+     * Anything already in the file after those bytes is discarded.
+     * Will create the file if it does not exist yet.
+     *
+     * @return the number of bytes written.
+     */
+    public static int writeToFile(Path file, String content, long offset) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(offset);
+            channel.position(offset);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        return bytes.capacity();
+    }
+
 }
@@ -2,7 +2,13 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +17,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -29,6 +38,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -40,12 +50,47 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (Writer writer = Files.newBufferedWriter(jsonFile, CHARSET)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(writer, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (Reader reader = Files.newBufferedReader(jsonFile, CHARSET)) {
+            return objectMapper.readValue(reader, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Returns a parser that streams the JSON data in the given file, one token at a time.
+     * Values read through {@link JsonParser#readValueAs(Class)} are converted with the same settings as
+     * {@link #readJsonFile(Path, Class)}. The file is closed when the parser is closed.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a generator that streams pretty-printed JSON data to the given file, one token at a time.
+     * Values written through {@link JsonGenerator#writeObject(Object)} are converted with the same settings as
+     * {@link #saveJsonFile(Object, Path)}. Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is only guaranteed to be written once the generator is closed.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+        // Values are flushed to the buffered stream after each write, so only pass flushes on when closing
+        return generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
     }
 
     /**
@@ -111,6 +156,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
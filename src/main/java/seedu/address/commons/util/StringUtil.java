@@ -38,6 +38,42 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the smallest number of
+     * single character insertions, deletions and substitutions that turn one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("kitten", "sitting") == 3
+     *       getEditDistance("abc", "abc") == 0
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (first.length() < second.length()) {
+            return getEditDistance(second, first);
+        }
+
+        // distances from prefixes of first to the empty prefix and to the current prefix of second
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = c == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -34,6 +34,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedAddressBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,6 +43,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBook().getVersion();
     }
 
     @Override
@@ -52,13 +54,20 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == savedAddressBookVersion) {
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        savedAddressBookVersion = version;
 
         return commandResult;
     }
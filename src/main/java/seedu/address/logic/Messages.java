@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
 import seedu.address.model.consultation.Consultation;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 
 /**
@@ -26,6 +29,12 @@ public class Messages {
             + "at index %1$d is invalid";
     public static final String MESSAGE_INVALID_LESSON_DISPLAYED_INDEX = "The lesson provided at index %1$d is invalid";
     public static final String MESSAGE_LESSONS_LISTED_OVERVIEW = "%1$d lessons listed!";
+    public static final String MESSAGE_NAME_SUGGESTIONS = "Did you mean: %1$s?";
+
+    /** Largest number of names suggested for a name that was not found. */
+    public static final int MAX_NAME_SUGGESTIONS = 3;
+    /** Largest number of edits between a name that was not found and the names suggested for it. */
+    public static final int MAX_NAME_SUGGESTION_DISTANCE = 2;
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -38,6 +47,24 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns {@code message}, followed by the names of the students in {@code model} closest to {@code name} if
+     * any are close enough. Names are close enough if they are within {@code MAX_NAME_SUGGESTION_DISTANCE} edits,
+     * and within one edit for every three characters of {@code name}, so that short names are not matched by
+     * unrelated ones.
+     */
+    public static String withNameSuggestions(String message, Model model, Name name) {
+        int maxDistance = Math.min(MAX_NAME_SUGGESTION_DISTANCE, name.fullName.length() / 3);
+        List<String> suggestions = model.getStudentsWithNameNear(name.fullName, maxDistance).stream()
+                .limit(MAX_NAME_SUGGESTIONS)
+                .map(student -> student.getName().fullName)
+                .toList();
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+        return message + "\n" + String.format(MESSAGE_NAME_SUGGESTIONS, String.join(", ", suggestions));
+    }
+
     /**
      * Formats the {@code student} for display to the user.
      */
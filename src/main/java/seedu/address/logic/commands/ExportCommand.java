@@ -1,17 +1,18 @@
 package seedu.address.logic.commands;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.CsvWriter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.course.Course;
@@ -124,27 +125,22 @@ public class ExportCommand extends Command {
         }
 
         try {
-            // Write to data directory
-            writeCsvFile(dataFilePath, studentList);
+            // Write to data directory and home directory at once
+            CsvWriter csvWriter = new CsvWriter(dataFilePath, homeFilePath, isForceExport);
+            try (csvWriter) {
+                writeCsvFile(csvWriter, studentList);
+            }
             logger.info("Successfully wrote data to: " + dataFilePath);
 
-            // Copy to home directory
-            try {
-                if (isForceExport) {
-                    Files.copy(dataFilePath, homeFilePath, StandardCopyOption.REPLACE_EXISTING);
-                    logger.info("Force-copied file to home directory: " + homeFilePath);
-                } else {
-                    Files.copy(dataFilePath, homeFilePath);
-                    logger.info("Copied file to home directory: " + homeFilePath);
-                }
+            if (csvWriter.hasCopy()) {
+                logger.info("Wrote file to home directory: " + homeFilePath);
                 return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_COPY,
                         studentList.size(), dataFilePath, homeFilePath),
                         COMMAND_TYPE);
-            } catch (IOException e) {
-                // If home directory copy fails for other reasons, return success with data file only
-                return new CommandResult(String.format(MESSAGE_SUCCESS, studentList.size(), dataFilePath),
-                        COMMAND_TYPE);
             }
+            // If the home directory file could not be written, return success with data file only
+            return new CommandResult(String.format(MESSAGE_SUCCESS, studentList.size(), dataFilePath),
+                    COMMAND_TYPE);
         } catch (IOException e) {
             logger.warning("Failed to write CSV file: " + e.getMessage());
             // Clean up any partially created files
@@ -159,13 +155,7 @@ public class ExportCommand extends Command {
 
     String escapeSpecialCharacters(String data) {
         assert data != null : "Input string cannot be null";
-        String escapedData = data.replaceAll("\\R", " ");
-        if (data.contains(",") || data.contains("\"") || data.contains("'")) {
-            data = data.replace("\"", "\"\"");
-            escapedData = "\"" + data + "\"";
-        }
-        assert escapedData != null : "Escaped data cannot be null";
-        return escapedData;
+        return CsvUtil.escapeField(data);
     }
 
     /**
@@ -178,23 +168,34 @@ public class ExportCommand extends Command {
         assert filePath != null : "File path cannot be null";
         assert studentList != null : "Student list cannot be null";
         logger.fine("Writing CSV file to: " + filePath);
-        try (FileWriter csvWriter = new FileWriter(filePath.toFile())) {
-            // Write CSV header
-            csvWriter.append("Name,Phone,Email,Courses\n");
-            logger.finest("Wrote CSV header");
-
-            // Write student data
-            for (Student student : studentList) {
-                assert student != null : "Student cannot be null";
-                csvWriter.append(String.format("%s,%s,%s,%s\n",
-                        escapeSpecialCharacters(student.getName().fullName),
-                        student.getPhone().value,
-                        student.getEmail().value,
-                        escapeSpecialCharacters(coursesToString(student.getCourses()))));
+        try (CsvWriter csvWriter = new CsvWriter(filePath)) {
+            writeCsvFile(csvWriter, studentList);
+        }
+    }
+
+    /**
+     * Writes all Students in a given List as CSV records to csvWriter
+     */
+    private void writeCsvFile(CsvWriter csvWriter, List<Student> studentList) throws IOException {
+        // Write CSV header
+        csvWriter.writeRawRecord("Name,Phone,Email,Courses");
+        logger.finest("Wrote CSV header");
+
+        // Write student data
+        List<String> courseCodes = new ArrayList<>();
+        for (Student student : studentList) {
+            assert student != null : "Student cannot be null";
+            courseCodes.clear();
+            for (Course course : student.getCourses()) {
+                courseCodes.add(course.courseCode);
             }
-            csvWriter.flush();
-            logger.finest("Wrote " + studentList.size() + " student records");
+            csvWriter.writeField(student.getName().fullName)
+                    .writeField(student.getPhone().value)
+                    .writeField(student.getEmail().value)
+                    .writeField(courseCodes, ';')
+                    .endRecord();
         }
+        logger.finest("Wrote " + studentList.size() + " student records");
     }
 
     /**
@@ -5,12 +5,18 @@ import static seedu.address.logic.parser.CliSyntax.DEFAULT_DELIMITER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.student.IsStudentOfCoursePredicate;
+import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
 
 /**
@@ -26,6 +32,8 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD PARAMETERS [;PARAMETERS...] [MORE_KEYWORDS_WITH_PARAMETERS]...\n"
+            + "Keywords starting with " + NameContainsKeywordsPredicate.FUZZY_MARKER + " instead match names with "
+            + "a word at most a few typos away from the rest of the keyword.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice" + DEFAULT_DELIMITER + "bob"
             + PREFIX_COURSE + "CS2100" + DEFAULT_DELIMITER + "CS2040";
 
@@ -68,6 +76,48 @@ public class FindCommand extends Command {
         return student -> predicates.stream().allMatch(p -> p.test(student));
     }
 
+    /**
+     * Returns a predicate equivalent to the combined predicate, which finds the students with the requested courses
+     * and names from the indexes of {@code model} instead of checking every student.
+     */
+    private Predicate<Student> createIndexedPredicate(Model model) {
+        List<Function<Model, Set<Student>>> indexedFilters = new ArrayList<>();
+        List<Predicate<? super Student>> otherPredicates = new ArrayList<>();
+        for (Predicate<? super Student> predicate : predicates) {
+            if (predicate instanceof IsStudentOfCoursePredicate) {
+                List<String> courseCodes = ((IsStudentOfCoursePredicate) predicate).getCourseCodes();
+                indexedFilters.add(m -> m.getStudentsTakingAnyOf(courseCodes));
+            } else if (predicate instanceof NameContainsKeywordsPredicate) {
+                List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+                indexedFilters.add(m -> findStudentsWithNameMatchingAny(m, keywords));
+            } else {
+                otherPredicates.add(predicate);
+            }
+        }
+        if (indexedFilters.isEmpty()) {
+            return combinedPredicate;
+        }
+        return new IndexedPredicate(model, indexedFilters, combinePredicates(otherPredicates));
+    }
+
+    /**
+     * Returns the students in {@code model} whose names match any of the {@code keywords}, as defined by
+     * {@link NameContainsKeywordsPredicate}.
+     */
+    private static Set<Student> findStudentsWithNameMatchingAny(Model model, List<String> keywords) {
+        List<String> substringKeywords = new ArrayList<>();
+        List<String> fuzzyKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            (NameContainsKeywordsPredicate.isFuzzy(keyword) ? fuzzyKeywords : substringKeywords).add(keyword);
+        }
+        Set<Student> students = model.getStudentsWithNameContainingAny(substringKeywords);
+        for (String keyword : fuzzyKeywords) {
+            students.addAll(model.getStudentsWithNameWordNear(NameContainsKeywordsPredicate.getFuzzyWord(keyword),
+                    NameContainsKeywordsPredicate.getMaxFuzzyDistance(keyword)));
+        }
+        return students;
+    }
+
     /**
      * Returns Command Type FINDSTUDENT
      *
@@ -81,7 +131,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(combinedPredicate);
+        model.updateFilteredStudentList(createIndexedPredicate(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()),
                 COMMAND_TYPE);
@@ -108,4 +158,47 @@ public class FindCommand extends Command {
                 .add("predicates", predicates)
                 .toString();
     }
+
+    /**
+     * Matches the students found by every one of several filters who also satisfy another predicate. Each filter
+     * looks up its students in an index of the model. The matching students are found by intersecting the students
+     * of each filter, starting from the smallest set, and are only found again once the students in the model
+     * have changed.
+     */
+    private static class IndexedPredicate implements Predicate<Student> {
+        private final Model model;
+        private final List<Function<Model, Set<Student>>> indexedFilters;
+        private final Predicate<Student> otherPredicate;
+        private Set<Student> matches;
+        private long matchesVersion;
+
+        IndexedPredicate(Model model, List<Function<Model, Set<Student>>> indexedFilters,
+                Predicate<Student> otherPredicate) {
+            this.model = model;
+            this.indexedFilters = indexedFilters;
+            this.otherPredicate = otherPredicate;
+        }
+
+        @Override
+        public boolean test(Student student) {
+            long version = model.getAddressBook().getVersion();
+            if (matches == null || matchesVersion != version) {
+                matches = findMatches();
+                matchesVersion = version;
+            }
+            return matches.contains(student);
+        }
+
+        private Set<Student> findMatches() {
+            List<Set<Student>> candidates = indexedFilters.stream()
+                    .map(filter -> filter.apply(model))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+            Set<Student> matches = candidates.get(0);
+            List<Set<Student>> otherCandidates = candidates.subList(1, candidates.size());
+            matches.removeIf(student -> !otherPredicate.test(student)
+                    || otherCandidates.stream().anyMatch(students -> !students.contains(student)));
+            return matches;
+        }
+    }
 }
@@ -4,18 +4,18 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.course.Course;
@@ -26,6 +26,9 @@ import seedu.address.model.student.Student;
 
 /**
  * Imports students from a CSV file into TAHub.
+ * The file is imported in stages: each chunk of lines is parsed and the parsed students are checked for duplicates,
+ * with failed entries written to an {@link ImportErrorLog} as they are found. The valid students are then added to
+ * the model at once, so the student list changes only once.
  */
 public class ImportCommand extends Command {
 
@@ -40,8 +43,7 @@ public class ImportCommand extends Command {
             + "  " + COMMAND_WORD + " ~/documents/students.csv\n"
             + "  " + COMMAND_WORD + " ~/semester1/class1/students.csv";
 
-    public static final String MESSAGE_FILE_OUTSIDE_PROJECT =
-            "The file must be in the parent directory or specified with a complete path from home directory (~)";
+    public static final String MESSAGE_FILE_OUTSIDE_PROJECT = ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT;
 
     public static final String MESSAGE_SUCCESS = "Imported %1$d students successfully. %2$d entries had errors.";
     public static final String MESSAGE_SUCCESS_WITH_ERRORS = MESSAGE_SUCCESS + " Failed entries written to: %3$s";
@@ -49,10 +51,13 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_INVALID_FILE = "Could not read the specified file: %1$s";
     public static final String MESSAGE_INVALID_HEADER = "Invalid CSV header. Expected: Name,Phone,Email,Courses";
 
+    /** Number of lines parsed by one task before the work is no longer split. */
+    private static final int LINES_PER_TASK = 1024;
+    /** Number of lines read and parsed before they are validated, bounding the lines held in memory. */
+    private static final int LINES_PER_CHUNK = 64 * LINES_PER_TASK;
+
     private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
     private final Path filePath;
-    private int successCount = 0;
-    private int errorCount = 0;
 
     /**
      * Creates an ImportCommand to import data from the specified path into TAHub
@@ -75,9 +80,11 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model);
-        List<String[]> errorEntries = new ArrayList<>();
+        List<Student> studentsToAdd = new ArrayList<>();
+        Set<Name> namesToAdd = new HashSet<>();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()));
+                ImportErrorLog errorLog = new ImportErrorLog(filePath.resolveSibling("error.csv"))) {
             String header = reader.readLine();
             if (header == null) {
                 throw new CommandException(MESSAGE_EMPTY_FILE);
@@ -88,39 +95,25 @@ public class ImportCommand extends Command {
                 throw new CommandException(MESSAGE_INVALID_HEADER);
             }
 
-            String line;
-            boolean hasValidEntries = false;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-                hasValidEntries = true;
-                try {
-                    Student student = parseStudent(line);
-                    if (!model.hasStudent(student)) {
-                        model.addStudent(student);
-                        successCount++;
-                        logger.fine("Successfully imported student: " + student.getName());
-                    } else {
-                        errorEntries.add(new String[]{line, "Duplicate student"});
-                        errorCount++;
-                        logger.fine("Duplicate student found: " + student.getName());
-                    }
-                } catch (IllegalArgumentException e) {
-                    errorEntries.add(new String[]{line, e.getMessage()});
-                    errorCount++;
-                    logger.fine("Error parsing student entry: " + e.getMessage());
-                }
+            List<String> lines;
+            while (!(lines = readEntries(reader)).isEmpty()) {
+                validateEntries(parseEntries(lines), model, studentsToAdd, namesToAdd, errorLog);
             }
-
-            if (!hasValidEntries) {
+            int successCount = studentsToAdd.size();
+            int errorCount = errorLog.getErrorCount();
+            if (successCount + errorCount == 0) {
                 throw new CommandException(MESSAGE_EMPTY_FILE);
             }
 
-            if (!errorEntries.isEmpty()) {
-                Path errorPath = writeErrorFile(errorEntries);
+            if (!studentsToAdd.isEmpty()) {
+                model.addStudents(studentsToAdd);
+            }
+            logger.info("Imported " + successCount + " students with " + errorCount + " errors from " + filePath);
+
+            if (errorCount > 0) {
                 return new CommandResult(
-                        String.format(MESSAGE_SUCCESS_WITH_ERRORS, successCount, errorCount, errorPath),
+                        String.format(MESSAGE_SUCCESS_WITH_ERRORS, successCount, errorCount, errorLog.getErrorPath())
+                                + "\n" + errorLog.getSummary(),
                         COMMAND_TYPE);
             }
 
@@ -133,70 +126,66 @@ public class ImportCommand extends Command {
     }
 
     /**
-     * Resolves the file path, handling different possible locations in priority order:
-     * 1. Data directory (./data/)
-     * 2. Current directory
-     * 3. Home directory paths (starting with ~)
-     * 4. Absolute paths
+     * Reads the next {@value #LINES_PER_CHUNK} non-blank records from {@code reader}, or fewer if the file ends.
+     * See {@link CsvUtil#readRecord}.
      */
-    protected Path resolveFilePath(String filepath) {
-        // Remove .csv extension if present for consistency
-        String filename = filepath.endsWith(".csv")
-                ? filepath.substring(0, filepath.length() - 4)
-                : filepath;
-
-        // Check data directory first
-        Path dataPath = Paths.get("data", filename + ".csv");
-        if (Files.exists(dataPath)) {
-            return dataPath;
-        }
-
-        // Then try the direct path in case it's in current directory
-        Path directPath = Paths.get(filepath);
-        if (Files.exists(directPath)) {
-            return directPath;
-        }
-
-        // If path starts with ~, expand to user home directory
-        if (filepath.startsWith("~")) {
-            return Paths.get(System.getProperty("user.home"))
-                    .resolve(filepath.substring(2));
+    private List<String> readEntries(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while (lines.size() < LINES_PER_CHUNK && (line = CsvUtil.readRecord(reader)) != null) {
+            lines.add(line);
         }
+        return lines;
+    }
 
-        // If nothing found, default to data directory path for error message consistency
-        return dataPath;
+    /**
+     * Parses each of {@code lines} into a student, recording why it could not be parsed if it is invalid.
+     * The lines are split into ranges that are parsed in parallel, and the entries are returned in file order.
+     */
+    private List<ImportEntry> parseEntries(List<String> lines) {
+        return ForkJoinPool.commonPool().invoke(new ParseTask(lines, 0, lines.size()));
     }
 
     /**
-     * Writes failed entries to an error file in the same directory as the input file.
+     * Adds the parsed students of {@code entries} that can be added to the model to {@code studentsToAdd}, in file
+     * order, and the other entries to {@code errorLog}. Students already in {@code model} or with a name in
+     * {@code namesToAdd} are duplicates.
      */
-    private Path writeErrorFile(List<String[]> errorEntries) throws IOException {
-        Path errorPath = filePath.resolveSibling("error.csv");
-        try (FileWriter writer = new FileWriter(errorPath.toFile())) {
-            writer.write("Original Entry,Error Message\n");
-            for (String[] entry : errorEntries) {
-                writer.write(String.format("%s,%s\n",
-                        escapeSpecialCharacters(entry[0]),
-                        escapeSpecialCharacters(entry[1])));
+    private void validateEntries(List<ImportEntry> entries, Model model, List<Student> studentsToAdd,
+            Set<Name> namesToAdd, ImportErrorLog errorLog) throws IOException {
+        for (ImportEntry entry : entries) {
+            if (entry.student == null) {
+                errorLog.add(entry.line, entry.error);
+            } else if (model.hasStudent(entry.student) || !namesToAdd.add(entry.student.getName())) {
+                errorLog.add(entry.line, "Duplicate student");
+                logger.fine("Duplicate student found: " + entry.student.getName());
+            } else {
+                studentsToAdd.add(entry.student);
             }
         }
-        return errorPath;
+    }
+
+    /**
+     * Returns the path of the file to import, as resolved by {@link ImportFileResolver#resolve}.
+     */
+    protected Path resolveFilePath(String filepath) {
+        return ImportFileResolver.resolve(filepath);
     }
 
     /**
      * Parses a CSV line into a Student object.
      */
     protected Student parseStudent(String line) throws IllegalArgumentException {
-        String[] parts = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-        if (parts.length < 4) {
+        List<String> parts = CsvUtil.splitRecord(line);
+        if (parts.size() < 4) {
             throw new IllegalArgumentException("Incomplete student entry");
         }
 
         try {
-            String name = unescapeSpecialCharacters(parts[0]);
-            String phone = parts[1].trim();
-            String email = parts[2].trim();
-            String coursesStr = unescapeSpecialCharacters(parts[3]);
+            String name = parts.get(0).trim();
+            String phone = parts.get(1).trim();
+            String email = parts.get(2).trim();
+            String coursesStr = parts.get(3).trim();
 
             Set<Course> courses = new HashSet<>();
             if (!coursesStr.isEmpty()) {
@@ -221,15 +210,7 @@ public class ImportCommand extends Command {
      * Made public for testing.
      */
     public String escapeSpecialCharacters(String data) {
-        if (data == null) {
-            return "";
-        }
-        String escapedData = data.replaceAll("\\R", " ");
-        if (data.contains(",") || data.contains("\"") || data.contains("'")) {
-            data = data.replace("\"", "\"\"");
-            escapedData = "\"" + data + "\"";
-        }
-        return escapedData;
+        return CsvUtil.escapeField(data);
     }
 
     /**
@@ -261,4 +242,57 @@ public class ImportCommand extends Command {
         ImportCommand otherCommand = (ImportCommand) other;
         return filePath.equals(otherCommand.filePath);
     }
+
+    /**
+     * Parses a range of lines of the file, splitting the range in half until it is small enough.
+     */
+    private class ParseTask extends RecursiveTask<List<ImportEntry>> {
+        private final List<String> lines;
+        private final int from;
+        private final int to;
+
+        ParseTask(List<String> lines, int from, int to) {
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<ImportEntry> compute() {
+            if (to - from <= LINES_PER_TASK) {
+                List<ImportEntry> entries = new ArrayList<>(to - from);
+                for (String line : lines.subList(from, to)) {
+                    ImportEntry entry = new ImportEntry(line);
+                    try {
+                        entry.student = parseStudent(line);
+                    } catch (IllegalArgumentException e) {
+                        entry.error = e.getMessage();
+                        logger.fine("Error parsing student entry: " + e.getMessage());
+                    }
+                    entries.add(entry);
+                }
+                return entries;
+            }
+            int middle = (from + to) >>> 1;
+            ParseTask left = new ParseTask(lines, from, middle);
+            left.fork();
+            List<ImportEntry> entries = new ParseTask(lines, middle, to).compute();
+            List<ImportEntry> leftEntries = left.join();
+            leftEntries.addAll(entries);
+            return leftEntries;
+        }
+    }
+
+    /**
+     * A line of the file, and the student parsed from it or the reason it cannot be imported.
+     */
+    private static class ImportEntry {
+        private final String line;
+        private Student student;
+        private String error;
+
+        ImportEntry(String line) {
+            this.line = line;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Writes the entries of an import file that could not be imported to an error file as they are found, and counts
+ * them by error.
+ * <p>
+ * The error file is only created once the first error is found. Every error is counted, but only the first
+ * {@value #MAX_WRITTEN_ERRORS} failed entries are written in full; after that, one in every
+ * {@value #SAMPLE_INTERVAL} failed entries is written as a sample, so a badly formatted file cannot produce an
+ * error file as large as itself.
+ */
+public class ImportErrorLog implements Closeable {
+
+    public static final String HEADER = "Original Entry,Error Message";
+    public static final String MESSAGE_SUMMARY_HEADER = "Errors:";
+    public static final String MESSAGE_ERROR_COUNT = "%1$d x %2$s";
+    public static final String MESSAGE_OTHER_ERRORS = "other errors";
+    public static final String MESSAGE_SAMPLED = "Only %1$d of the failed entries were written, as a sample.";
+
+    /** Number of failed entries written in full before the rest are sampled. */
+    static final int MAX_WRITTEN_ERRORS = 1000;
+    /** Number of failed entries, after the first {@link #MAX_WRITTEN_ERRORS}, for each one written. */
+    static final int SAMPLE_INTERVAL = 100;
+    /** Number of distinct errors counted separately before the rest are counted as other errors. */
+    static final int MAX_ERROR_TYPES = 10;
+
+    private final Path errorPath;
+    private final Map<String, Integer> countsByError = new LinkedHashMap<>();
+    private BufferedWriter writer;
+    private int errorCount;
+    private int writtenCount;
+    private int otherErrorCount;
+
+    /**
+     * Creates an ImportErrorLog that writes failed entries to {@code errorPath}.
+     */
+    public ImportErrorLog(Path errorPath) {
+        this.errorPath = requireNonNull(errorPath);
+    }
+
+    /**
+     * Records that {@code entry} could not be imported because of {@code error}.
+     */
+    public void add(String entry, String error) throws IOException {
+        errorCount++;
+        if (countsByError.containsKey(error) || countsByError.size() < MAX_ERROR_TYPES) {
+            countsByError.merge(error, 1, Integer::sum);
+        } else {
+            otherErrorCount++;
+        }
+
+        if (errorCount > MAX_WRITTEN_ERRORS && (errorCount - MAX_WRITTEN_ERRORS) % SAMPLE_INTERVAL != 0) {
+            return;
+        }
+        if (writer == null) {
+            writer = Files.newBufferedWriter(errorPath);
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+        writer.write(CsvUtil.escapeField(entry));
+        writer.write(',');
+        writer.write(CsvUtil.escapeField(error));
+        writer.write('\n');
+        writtenCount++;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public Path getErrorPath() {
+        return errorPath;
+    }
+
+    /**
+     * Returns the number of failed entries with each error, most common first, and whether the error file
+     * only has a sample of them.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(MESSAGE_SUMMARY_HEADER);
+        countsByError.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(count -> summary.append("\n")
+                        .append(String.format(MESSAGE_ERROR_COUNT, count.getValue(), count.getKey())));
+        if (otherErrorCount > 0) {
+            summary.append("\n").append(String.format(MESSAGE_ERROR_COUNT, otherErrorCount, MESSAGE_OTHER_ERRORS));
+        }
+        if (writtenCount < errorCount) {
+            summary.append("\n").append(String.format(MESSAGE_SAMPLED, writtenCount));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Resolves the file named in an import command to the CSV file to read.
+ */
+public class ImportFileResolver {
+
+    public static final String MESSAGE_FILE_OUTSIDE_PROJECT =
+            "The file must be in the parent directory or specified with a complete path from home directory (~)";
+
+    private ImportFileResolver() {} // prevents instantiation
+
+    /**
+     * Resolves the file path, handling different possible locations in priority order:
+     * 1. Data directory (./data/), with the .csv extension
+     * 2. Current directory, first exactly as given, then with the .csv extension
+     * 3. Home directory paths (starting with ~), first exactly as given, then with the .csv extension
+     * 4. Absolute paths, exactly as given
+     */
+    public static Path resolve(String filepath) {
+        try {
+            // Remove .csv extension if present for consistency
+            String filename = filepath.endsWith(".csv")
+                    ? filepath.substring(0, filepath.length() - 4)
+                    : filepath;
+
+            // Check data directory first
+            Path dataPath = Paths.get("data").resolve(filename + ".csv").normalize();
+            if (Files.exists(dataPath)) {
+                return dataPath;
+            }
+
+            // Then try the path in case it's in current directory, as given and with the .csv extension
+            Path directPath = findExisting(Paths.get(filepath), Paths.get(filename + ".csv"));
+            if (directPath != null) {
+                return directPath;
+            }
+
+            // If path starts with ~, expand to user home directory
+            if (filename.startsWith("~")) {
+                Path homePath = Paths.get(System.getProperty("user.home"));
+                Path givenHomePath = homePath.resolve(filepath.substring(2)).normalize();
+                Path csvHomePath = homePath.resolve(filename.substring(2) + ".csv").normalize();
+                return Files.exists(givenHomePath) ? givenHomePath : csvHomePath;
+            }
+
+            // For absolute paths, try to handle them directly
+            if (Paths.get(filepath).isAbsolute()) {
+                return Paths.get(filepath).normalize();
+            }
+
+            // If nothing found, default to data directory path for error message consistency
+            return dataPath;
+        } catch (InvalidPathException e) {
+            // If we get an invalid path, fall back to treating it as a simple filename in data directory
+            return Paths.get("data", filepath).normalize();
+        }
+    }
+
+    /**
+     * Returns the first of {@code paths} that is an existing file, normalized, or null if there is no such path.
+     */
+    private static Path findExisting(Path... paths) {
+        for (Path path : paths) {
+            if (Files.isRegularFile(path)) {
+                return path.normalize();
+            }
+        }
+        return null;
+    }
+}
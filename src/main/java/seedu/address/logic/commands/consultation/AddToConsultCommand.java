@@ -88,8 +88,8 @@ public class AddToConsultCommand extends Command {
 
         for (Name studentName : studentNames) {
             Student student = model.findStudentByName(studentName)
-                    .orElseThrow(() -> new CommandException(
-                            String.format(MESSAGE_STUDENT_NOT_FOUND, studentName)));
+                    .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                            String.format(MESSAGE_STUDENT_NOT_FOUND, studentName), model, studentName)));
 
             // if student was already in the lesson before this command, throw error
             if (editedConsultation.hasStudent(student)) {
@@ -1,22 +1,23 @@
 package seedu.address.logic.commands.consultation;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.CsvWriter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.consultation.Consultation;
+import seedu.address.model.student.Student;
 
 /**
  * Exports the currently displayed list of consultations to a CSV file.
@@ -108,21 +109,18 @@ public class ExportConsultCommand extends Command {
         }
 
         try {
-            writeCsvFile(dataFilePath, consultList);
+            CsvWriter csvWriter = new CsvWriter(dataFilePath, homeFilePath, isForceExport);
+            try (csvWriter) {
+                writeCsvFile(csvWriter, consultList);
+            }
 
-            try {
-                if (isForceExport) {
-                    Files.copy(dataFilePath, homeFilePath, StandardCopyOption.REPLACE_EXISTING);
-                } else {
-                    Files.copy(dataFilePath, homeFilePath);
-                }
+            if (csvWriter.hasCopy()) {
                 return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_COPY,
                         consultList.size(), dataFilePath, homeFilePath),
                         COMMAND_TYPE);
-            } catch (IOException e) {
-                return new CommandResult(String.format(MESSAGE_SUCCESS, consultList.size(), dataFilePath),
-                        COMMAND_TYPE);
             }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, consultList.size(), dataFilePath),
+                    COMMAND_TYPE);
         } catch (IOException e) {
             try {
                 Files.deleteIfExists(dataFilePath);
@@ -134,32 +132,24 @@ public class ExportConsultCommand extends Command {
     }
 
     String escapeSpecialCharacters(String data) {
-        String escapedData = data.replaceAll("\\R", " ");
-        if (data.contains(",") || data.contains("\"") || data.contains("'")) {
-            data = data.replace("\"", "\"\"");
-            escapedData = "\"" + data + "\"";
-        }
-        return escapedData;
+        return CsvUtil.escapeField(data);
     }
 
-    private void writeCsvFile(Path filePath, List<Consultation> consultList) throws IOException {
-        try (FileWriter csvWriter = new FileWriter(filePath.toFile())) {
-            // Write CSV header
-            csvWriter.append("Date,Time,Students\n");
-
-            // Write consultation data
-            for (Consultation consult : consultList) {
-                List<String> studentNames = consult.getStudents().stream()
-                        .map(student -> student.getName().fullName)
-                        .collect(Collectors.toList());
-                String studentsString = String.join(";", studentNames);
-
-                csvWriter.append(String.format("%s,%s,%s\n",
-                        consult.getDate().getValue(),
-                        consult.getTime().getValue(),
-                        escapeSpecialCharacters(studentsString)));
+    private void writeCsvFile(CsvWriter csvWriter, List<Consultation> consultList) throws IOException {
+        // Write CSV header
+        csvWriter.writeRawRecord("Date,Time,Students");
+
+        // Write consultation data
+        List<String> studentNames = new ArrayList<>();
+        for (Consultation consult : consultList) {
+            studentNames.clear();
+            for (Student student : consult.getStudents()) {
+                studentNames.add(student.getName().fullName);
             }
-            csvWriter.flush();
+            csvWriter.writeField(consult.getDate().getValue())
+                    .writeField(consult.getTime().getValue())
+                    .writeField(studentNames, ';')
+                    .endRecord();
         }
     }
 
@@ -4,21 +4,23 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.ImportErrorLog;
+import seedu.address.logic.commands.ImportFileResolver;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.consultation.Consultation;
@@ -43,8 +45,7 @@ public class ImportConsultCommand extends Command {
             + "  " + COMMAND_WORD + " ~/documents/consultations.csv\n"
             + "  " + COMMAND_WORD + " ~/semester1/consultations.csv";
 
-    public static final String MESSAGE_FILE_OUTSIDE_PROJECT =
-            "The file must be in the parent directory or specified with a complete path from home directory (~)";
+    public static final String MESSAGE_FILE_OUTSIDE_PROJECT = ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT;
 
     public static final String MESSAGE_SUCCESS = "Imported %1$d consultations successfully. %2$d entries had errors.";
     public static final String MESSAGE_SUCCESS_WITH_ERRORS = MESSAGE_SUCCESS + " Failed entries written to: %3$s";
@@ -52,11 +53,10 @@ public class ImportConsultCommand extends Command {
     public static final String MESSAGE_INVALID_FILE = "Could not read the specified file: %1$s";
     public static final String MESSAGE_INVALID_HEADER = "Invalid CSV header. Expected: Date,Time,Students";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student '%s' not found in the system";
+    public static final String MESSAGE_DUPLICATE_CONSULT = "Duplicate consultation";
 
     private static final Logger logger = LogsCenter.getLogger(ImportConsultCommand.class);
     private final Path filePath;
-    private int successCount = 0;
-    private int errorCount = 0;
 
     /**
      * Creates an ImportConsultCommand to import consultation data from the specified path
@@ -74,9 +74,9 @@ public class ImportConsultCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model);
-        List<String[]> errorEntries = new ArrayList<>();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()));
+                ImportErrorLog errorLog = new ImportErrorLog(filePath.resolveSibling("error.csv"))) {
             String header = reader.readLine();
             if (header == null) {
                 throw new CommandException(MESSAGE_EMPTY_FILE);
@@ -86,16 +86,17 @@ public class ImportConsultCommand extends Command {
                 throw new CommandException(MESSAGE_INVALID_HEADER);
             }
 
-            boolean hasValidEntries = parseFileEntries(errorEntries, reader, model);
+            int successCount = parseFileEntries(errorLog, reader, model);
+            int errorCount = errorLog.getErrorCount();
 
-            if (!hasValidEntries) {
+            if (successCount + errorCount == 0) {
                 throw new CommandException(MESSAGE_EMPTY_FILE);
             }
 
-            if (!errorEntries.isEmpty()) {
-                Path errorPath = writeErrorFile(errorEntries);
+            if (errorCount > 0) {
                 return new CommandResult(
-                        String.format(MESSAGE_SUCCESS_WITH_ERRORS, successCount, errorCount, errorPath),
+                        String.format(MESSAGE_SUCCESS_WITH_ERRORS, successCount, errorCount, errorLog.getErrorPath())
+                                + "\n" + errorLog.getSummary(),
                         COMMAND_TYPE);
             }
 
@@ -108,115 +109,65 @@ public class ImportConsultCommand extends Command {
     }
 
     /**
-     * Helper function to parse a .csv file
-     * @param errorEntries A List to be populated with error entries
+     * Helper function to parse a .csv file.
+     * The consultations are checked as they are read, and added to the model together at the end.
+     * @param errorLog An ImportErrorLog to record the entries that could not be imported
      * @param reader A BufferedReader instance to read the file
-     * @return A boolean representing whether the file had valid entries
+     * @return The number of consultations imported
      */
-    private boolean parseFileEntries(List<String[]> errorEntries,
-                                     BufferedReader reader,
-                                     Model model) throws IOException {
+    private int parseFileEntries(ImportErrorLog errorLog,
+                                 BufferedReader reader,
+                                 Model model) throws IOException {
+        Map<String, Student> studentsByName = new HashMap<>();
+        Set<Long> consultTimes = new HashSet<>();
+        List<Consultation> consultsToAdd = new ArrayList<>();
         String line;
-        boolean hasValidEntries = false;
-        while ((line = reader.readLine()) != null) {
-            if (line.trim().isEmpty()) {
-                continue;
-            }
-            hasValidEntries = true;
+        while ((line = CsvUtil.readRecord(reader)) != null) {
             try {
-                Consultation consultation = parseConsultation(line, model);
-                if (!model.hasConsult(consultation)) {
-                    model.addConsult(consultation);
-                    successCount++;
-                    logger.fine("Successfully imported consultation: " + consultation);
-                } else {
-                    errorEntries.add(new String[]{line, "Duplicate consultation"});
-                    errorCount++;
+                Consultation consultation = parseConsultation(line, model, studentsByName);
+                if (model.hasConsult(consultation) || !consultTimes.add(consultation.getEpochMinute())) {
+                    errorLog.add(line, MESSAGE_DUPLICATE_CONSULT);
                     logger.fine("Duplicate consultation found: " + consultation);
+                } else {
+                    consultsToAdd.add(consultation);
                 }
             } catch (IllegalArgumentException e) {
-                errorEntries.add(new String[]{line, e.getMessage()});
-                errorCount++;
+                errorLog.add(line, e.getMessage());
                 logger.fine("Error parsing consultation entry: " + e.getMessage());
             }
         }
-        return hasValidEntries;
+
+        if (!consultsToAdd.isEmpty()) {
+            model.addConsults(consultsToAdd);
+        }
+        logger.fine("Imported " + consultsToAdd.size() + " consultations");
+        return consultsToAdd.size();
     }
 
     /**
-     * Resolves the file path, handling different possible locations in priority order:
-     * 1. Data directory (./data/)
-     * 2. Current directory
-     * 3. Home directory paths (starting with ~)
-     * 4. Absolute paths
+     * Returns the path of the file to import, as resolved by {@link ImportFileResolver#resolve}.
      */
     protected Path resolveFilePath(String filepath) {
-        try {
-            // Remove .csv extension if present for consistency
-            String filename = filepath.endsWith(".csv")
-                    ? filepath.substring(0, filepath.length() - 4)
-                    : filepath;
-
-            // Check data directory first
-            Path dataPath = Paths.get("data").resolve(filename + ".csv").normalize();
-            if (Files.exists(dataPath)) {
-                return dataPath;
-            }
-
-            // Then try the direct path in case it's in current directory
-            Path directPath = Paths.get(filename + ".csv").normalize();
-            if (Files.exists(directPath)) {
-                return directPath;
-            }
-
-            // If path starts with ~, expand to user home directory
-            if (filename.startsWith("~")) {
-                return Paths.get(System.getProperty("user.home"))
-                        .resolve(filename.substring(2) + ".csv")
-                        .normalize();
-            }
-
-            // For absolute paths, try to handle them directly
-            if (Paths.get(filepath).isAbsolute()) {
-                return Paths.get(filepath).normalize();
-            }
-
-            // If nothing found, default to data directory path for error message consistency
-            return dataPath;
-        } catch (InvalidPathException e) {
-            // If we get an invalid path, fall back to treating it as a simple filename in data directory
-            return Paths.get("data", filepath).normalize();
-        }
-    }
-
-    private Path writeErrorFile(List<String[]> errorEntries) throws IOException {
-        Path errorPath = filePath.resolveSibling("error.csv");
-        try (FileWriter writer = new FileWriter(errorPath.toFile())) {
-            writer.write("Original Entry,Error Message\n");
-            for (String[] entry : errorEntries) {
-                writer.write(String.format("%s,%s\n",
-                        escapeSpecialCharacters(entry[0]),
-                        escapeSpecialCharacters(entry[1])));
-            }
-        }
-        return errorPath;
+        return ImportFileResolver.resolve(filepath);
     }
 
     /**
      * Parses a CSV line into a Consultation object.
+     * Students already found by name are taken from {@code studentsByName}, and the ones found now are added to it.
      */
-    protected Consultation parseConsultation(String line, Model model) throws IllegalArgumentException {
-        String[] parts = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-        if (parts.length < 3) {
+    protected Consultation parseConsultation(String line, Model model, Map<String, Student> studentsByName)
+            throws IllegalArgumentException {
+        List<String> parts = CsvUtil.splitRecord(line);
+        if (parts.size() < 3) {
             throw new IllegalArgumentException("Incomplete consultation entry");
         }
 
         try {
-            String date = parts[0].trim();
-            String time = parts[1].trim();
-            String studentsStr = unescapeSpecialCharacters(parts[2]);
+            String date = parts.get(0).trim();
+            String time = parts.get(1).trim();
+            String studentsStr = parts.get(2).trim();
 
-            List<Student> students = getStudentsFromString(studentsStr, model);
+            List<Student> students = getStudentsFromString(studentsStr, model, studentsByName);
 
             return new Consultation(new Date(date), new Time(time), students);
         } catch (IllegalArgumentException e) {
@@ -227,16 +178,19 @@ public class ImportConsultCommand extends Command {
     /**
      * Extracts a list of Students from a semicolon-separated string.
      */
-    private List<Student> getStudentsFromString(String studentsStr, Model model) throws IllegalArgumentException {
+    private List<Student> getStudentsFromString(String studentsStr, Model model, Map<String, Student> studentsByName)
+            throws IllegalArgumentException {
         List<Student> students = new ArrayList<>();
         if (!studentsStr.isEmpty()) {
             for (String studentName : studentsStr.split(";")) {
                 String trimmedName = studentName.trim();
-                Optional<Student> student = model.findStudentByName(new Name(trimmedName));
-                if (student.isEmpty()) {
-                    throw new IllegalArgumentException(String.format(MESSAGE_STUDENT_NOT_FOUND, trimmedName));
+                Student student = studentsByName.get(trimmedName);
+                if (student == null) {
+                    student = model.findStudentByName(new Name(trimmedName)).orElseThrow(() ->
+                            new IllegalArgumentException(String.format(MESSAGE_STUDENT_NOT_FOUND, trimmedName)));
+                    studentsByName.put(trimmedName, student);
                 }
-                students.add(student.get());
+                students.add(student);
             }
         }
         return students;
@@ -247,15 +201,7 @@ public class ImportConsultCommand extends Command {
      * Made public for testing.
      */
     public String escapeSpecialCharacters(String data) {
-        if (data == null) {
-            return "";
-        }
-        String escapedData = data.replaceAll("\\R", " ");
-        if (data.contains(",") || data.contains("\"") || data.contains("'")) {
-            data = data.replace("\"", "\"\"");
-            escapedData = "\"" + data + "\"";
-        }
-        return escapedData;
+        return CsvUtil.escapeField(data);
     }
 
     /**
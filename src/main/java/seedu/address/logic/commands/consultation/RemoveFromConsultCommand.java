@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
@@ -72,7 +73,8 @@ public class RemoveFromConsultCommand extends Command {
 
         for (Name studentName : studentNames) {
             Student studentToRemove = model.findStudentByName(studentName)
-                    .orElseThrow(() -> new CommandException("Student not found: " + studentName));
+                    .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                            "Student not found: " + studentName, model, studentName)));
 
             if (!editedConsultation.hasStudent(studentToRemove)) {
                 throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
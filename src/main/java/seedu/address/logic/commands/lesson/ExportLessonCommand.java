@@ -0,0 +1,174 @@
+package seedu.address.logic.commands.lesson;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.StudentLessonInfo;
+
+/**
+ * Exports the currently displayed list of lessons, with the attendance and participation of their students, to a
+ * CSV file that can be imported with {@link ImportLessonCommand}.
+ * Each student in a lesson is written as one row, and a lesson without students as one row without a student.
+ */
+public class ExportLessonCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportlesson";
+    public static final String FORCE_FLAG = "-f";
+    public static final CommandType COMMAND_TYPE = CommandType.LESSON;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the current list of lessons, with the attendance and participation of their students, "
+            + "to a CSV file. "
+            + "Parameters: FILENAME " + "[" + FORCE_FLAG + "] "
+            + "\nExample: " + COMMAND_WORD + " lessons"
+            + "\nExample with force flag: " + COMMAND_WORD + " " + FORCE_FLAG + " lessons";
+
+    public static final String MESSAGE_FAILURE = "Failed to export lessons: %1$s";
+    public static final String MESSAGE_FILE_EXISTS = "File %1$s already exists. Use -f flag to overwrite.";
+    public static final String MESSAGE_HOME_FILE_EXISTS =
+            "File %1$s already exists in home directory. Use -f flag to overwrite.";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d lessons to %2$s";
+    public static final String MESSAGE_SUCCESS_WITH_COPY = "Exported %1$d lessons to %2$s and %3$s";
+    public static final String INVALID_FILENAME_MESSAGE =
+            "Filename can only contain alphanumeric characters (A-Z, a-z, 0-9)";
+
+    private static final String ATTENDED = "Y";
+    private static final String ABSENT = "N";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportLessonCommand.class);
+
+    private final String filename;
+    private final boolean isForceExport;
+    private final Path baseDir;
+
+    public ExportLessonCommand(String filename, boolean isForceExport) {
+        this(filename, isForceExport, Paths.get("data"));
+    }
+
+    /**
+     * Creates an ExportLessonCommand to export data to the specified filename in the given directory
+     */
+    public ExportLessonCommand(String filename, boolean isForceExport, Path baseDir) {
+        this.filename = filename;
+        this.isForceExport = isForceExport;
+        this.baseDir = baseDir;
+    }
+
+    @Override
+    public CommandType getCommandType() {
+        return COMMAND_TYPE;
+    }
+
+    protected Path getHomeFilePath(String filename) {
+        return Paths.get(System.getProperty("user.home"), filename + ".csv");
+    }
+
+    /**
+     * Validates if filename is valid
+     *
+     * @param filename String representing filename to be validated
+     */
+    protected void validateFilename(String filename) throws CommandException {
+        if (!filename.matches("^[a-zA-Z0-9]+$")) {
+            throw new CommandException(INVALID_FILENAME_MESSAGE);
+        }
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        validateFilename(filename);
+        List<Lesson> lessonList = model.getFilteredLessonList();
+        logger.info("Starting export for " + lessonList.size() + " lessons");
+
+        Path dataFilePath = baseDir.resolve(filename + ".csv");
+        Path homeFilePath = getHomeFilePath(filename);
+
+        try {
+            Files.createDirectories(baseDir);
+        } catch (IOException e) {
+            logger.warning("Failed to create directory: " + baseDir);
+            throw new CommandException(String.format(MESSAGE_FAILURE, "Could not create directory: " + e.getMessage()));
+        }
+
+        if (!isForceExport) {
+            if (Files.exists(dataFilePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_EXISTS, dataFilePath));
+            }
+            if (Files.exists(homeFilePath)) {
+                throw new CommandException(String.format(MESSAGE_HOME_FILE_EXISTS, homeFilePath));
+            }
+        }
+
+        try {
+            CsvWriter csvWriter = new CsvWriter(dataFilePath, homeFilePath, isForceExport);
+            try (csvWriter) {
+                writeCsvFile(csvWriter, lessonList);
+            }
+
+            if (csvWriter.hasCopy()) {
+                return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_COPY,
+                        lessonList.size(), dataFilePath, homeFilePath),
+                        COMMAND_TYPE);
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, lessonList.size(), dataFilePath),
+                    COMMAND_TYPE);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(dataFilePath);
+            } catch (IOException ignored) {
+                // Ignore cleanup errors
+            }
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()));
+        }
+    }
+
+    private void writeCsvFile(CsvWriter csvWriter, List<Lesson> lessonList) throws IOException {
+        csvWriter.writeRawRecord(ImportLessonCommand.HEADER);
+
+        for (Lesson lesson : lessonList) {
+            List<StudentLessonInfo> studentLessonInfoList = lesson.getStudentLessonInfoList();
+            if (studentLessonInfoList.isEmpty()) {
+                csvWriter.writeField(lesson.getDate().getValue())
+                        .writeField(lesson.getTime().getValue())
+                        .writeField("")
+                        .writeField("")
+                        .writeField("")
+                        .endRecord();
+                continue;
+            }
+            for (StudentLessonInfo studentLessonInfo : studentLessonInfoList) {
+                csvWriter.writeField(lesson.getDate().getValue())
+                        .writeField(lesson.getTime().getValue())
+                        .writeField(studentLessonInfo.getStudent().getName().fullName)
+                        .writeField(studentLessonInfo.getAttendance() ? ATTENDED : ABSENT)
+                        .writeField(studentLessonInfo.getParticipationScore())
+                        .endRecord();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportLessonCommand)) {
+            return false;
+        }
+        ExportLessonCommand otherCommand = (ExportLessonCommand) other;
+        return filename.equals(otherCommand.filename)
+                && isForceExport == otherCommand.isForceExport;
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.logic.commands.lesson;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.ImportErrorLog;
+import seedu.address.logic.commands.ImportFileResolver;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Imports lessons, with the attendance and participation of their students, from a CSV file into TAHub.
+ * The file has one row for each student in each lesson, so the rows of a lesson are gathered as the file is read.
+ * Failed rows are written to an {@link ImportErrorLog} as they are found, and the lessons are then added to the
+ * model at once, so the lesson list changes only once.
+ */
+public class ImportLessonCommand extends Command {
+
+    public static final String COMMAND_WORD = "importlesson";
+    public static final CommandType COMMAND_TYPE = CommandType.LESSON;
+
+    public static final String HEADER = "Date,Time,Student,Attendance,Participation";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports lessons, with the attendance and "
+            + "participation of their students, from a CSV file.\n"
+            + "For files in parent directory: " + COMMAND_WORD + " filename.csv\n"
+            + "For files in home directory: " + COMMAND_WORD + " ~/path/to/file.csv\n"
+            + "Examples:\n"
+            + "  " + COMMAND_WORD + " lessons.csv\n"
+            + "  " + COMMAND_WORD + " ~/documents/lessons.csv";
+
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d lessons with %2$d student entries successfully. %3$d entries had errors.";
+    public static final String MESSAGE_SUCCESS_WITH_ERRORS = MESSAGE_SUCCESS + " Failed entries written to: %4$s";
+    public static final String MESSAGE_EMPTY_FILE = "The specified file is empty or contains no valid entries";
+    public static final String MESSAGE_INVALID_FILE = "Could not read the specified file: %1$s";
+    public static final String MESSAGE_INVALID_HEADER = "Invalid CSV header. Expected: " + HEADER;
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "Student '%s' not found in the system";
+    public static final String MESSAGE_DUPLICATE_LESSON = "Lesson already exists";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Student '%s' is already in this lesson";
+    public static final String MESSAGE_UNEXPECTED_MARKS = "Attendance and participation need a student";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportLessonCommand.class);
+    private final Path filePath;
+
+    /**
+     * Creates an ImportLessonCommand to import lesson data from the specified path
+     */
+    public ImportLessonCommand(String filepath) {
+        requireAllNonNull(filepath);
+        this.filePath = resolveFilePath(filepath);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+        return COMMAND_TYPE;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()));
+                ImportErrorLog errorLog = new ImportErrorLog(filePath.resolveSibling("error.csv"))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(MESSAGE_EMPTY_FILE);
+            }
+
+            if (!header.equalsIgnoreCase(HEADER)) {
+                throw new CommandException(MESSAGE_INVALID_HEADER);
+            }
+
+            List<Lesson> lessons = parseFileEntries(errorLog, reader, model);
+            int studentCount = lessons.stream().mapToInt(lesson -> lesson.getStudents().size()).sum();
+            int errorCount = errorLog.getErrorCount();
+
+            if (lessons.isEmpty() && errorCount == 0) {
+                throw new CommandException(MESSAGE_EMPTY_FILE);
+            }
+
+            if (!lessons.isEmpty()) {
+                model.addLessons(lessons);
+            }
+
+            if (errorCount > 0) {
+                return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_ERRORS,
+                        lessons.size(), studentCount, errorCount, errorLog.getErrorPath())
+                                + "\n" + errorLog.getSummary(),
+                        COMMAND_TYPE);
+            }
+
+            return new CommandResult(String.format(MESSAGE_SUCCESS, lessons.size(), studentCount, errorCount),
+                    COMMAND_TYPE);
+
+        } catch (IOException e) {
+            logger.warning("Error reading import file: " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, e.getMessage()));
+        }
+    }
+
+    /**
+     * Helper function to parse a .csv file.
+     * Each row is added to the lesson with its date and time, which is created by its first row.
+     * @param errorLog An ImportErrorLog to record the entries that could not be imported
+     * @param reader A BufferedReader instance to read the file
+     * @return The lessons to import, in the order they first appear in the file
+     */
+    private List<Lesson> parseFileEntries(ImportErrorLog errorLog,
+                                          BufferedReader reader,
+                                          Model model) throws IOException {
+        Map<String, Student> studentsByName = new HashMap<>();
+        Map<Long, Lesson> lessonsByTime = new LinkedHashMap<>();
+        String line;
+        while ((line = CsvUtil.readRecord(reader)) != null) {
+            try {
+                parseLessonEntry(line, model, studentsByName, lessonsByTime);
+            } catch (IllegalArgumentException e) {
+                errorLog.add(line, e.getMessage());
+                logger.fine("Error parsing lesson entry: " + e.getMessage());
+            }
+        }
+        return new ArrayList<>(lessonsByTime.values());
+    }
+
+    /**
+     * Parses a CSV line and adds its student, with their attendance and participation, to the lesson with its date
+     * and time in {@code lessonsByTime}. A line without a student only creates the lesson.
+     * Students already found by name are taken from {@code studentsByName}, and the ones found now are added to it.
+     */
+    protected void parseLessonEntry(String line, Model model, Map<String, Student> studentsByName,
+                                    Map<Long, Lesson> lessonsByTime) throws IllegalArgumentException {
+        List<String> parts = CsvUtil.splitRecord(line);
+        if (parts.size() < 2) {
+            throw new IllegalArgumentException("Incomplete lesson entry");
+        }
+
+        Lesson lesson;
+        try {
+            lesson = new Lesson(new Date(parts.get(0).trim()), new Time(parts.get(1).trim()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid data format: " + e.getMessage());
+        }
+        String studentName = getField(parts, 2);
+        String attendance = getField(parts, 3);
+        String participation = getField(parts, 4);
+
+        Lesson existingLesson = lessonsByTime.get(lesson.getEpochMinute());
+        if (existingLesson == null && model.hasLesson(lesson)) {
+            throw new IllegalArgumentException(MESSAGE_DUPLICATE_LESSON);
+        }
+        if (studentName.isEmpty()) {
+            if (!attendance.isEmpty() || !participation.isEmpty()) {
+                throw new IllegalArgumentException(MESSAGE_UNEXPECTED_MARKS);
+            }
+            lessonsByTime.putIfAbsent(lesson.getEpochMinute(), lesson);
+            return;
+        }
+
+        Student student = getStudent(studentName, model, studentsByName);
+        boolean hasAttended;
+        int participationScore;
+        try {
+            hasAttended = !attendance.isEmpty() && ParserUtil.parseAttendance(attendance);
+            participationScore = participation.isEmpty() ? 0 : ParserUtil.parsePoints(participation);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        if (existingLesson == null) {
+            lessonsByTime.put(lesson.getEpochMinute(), lesson);
+        } else if (existingLesson.hasStudent(student)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_STUDENT, studentName));
+        } else {
+            lesson = existingLesson;
+        }
+        lesson.addStudent(student);
+        lesson.setAttendance(student, hasAttended);
+        lesson.setParticipation(student, participationScore);
+    }
+
+    /**
+     * Returns the trimmed field at {@code index} of {@code parts}, or an empty string if there is no such field.
+     */
+    private static String getField(List<String> parts, int index) {
+        return index < parts.size() ? parts.get(index).trim() : "";
+    }
+
+    /**
+     * Returns the student with the given name, looking in {@code studentsByName} before the model.
+     */
+    private Student getStudent(String studentName, Model model, Map<String, Student> studentsByName)
+            throws IllegalArgumentException {
+        Student student = studentsByName.get(studentName);
+        if (student == null) {
+            student = model.findStudentByName(new Name(studentName)).orElseThrow(() ->
+                    new IllegalArgumentException(String.format(MESSAGE_STUDENT_NOT_FOUND, studentName)));
+            studentsByName.put(studentName, student);
+        }
+        return student;
+    }
+
+    /**
+     * Returns the path of the file to import, as resolved by {@link ImportFileResolver#resolve}.
+     */
+    protected Path resolveFilePath(String filepath) {
+        return ImportFileResolver.resolve(filepath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ImportLessonCommand)) {
+            return false;
+        }
+
+        ImportLessonCommand otherCommand = (ImportLessonCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
@@ -72,8 +73,9 @@ public class MarkLessonAttendanceCommand extends Command {
 
         for (Name studentName : studentNames) {
             Student student = model.findStudentByName(studentName)
-                    .orElseThrow(() -> new CommandException(
-                            String.format(MESSAGE_STUDENT_NOT_FOUND_IN_ADDRESS_BOOK, studentName)));
+                    .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                            String.format(MESSAGE_STUDENT_NOT_FOUND_IN_ADDRESS_BOOK, studentName), model,
+                            studentName)));
             try {
                 newLesson.setAttendance(student, attendance);
             } catch (StudentNotFoundException e) {
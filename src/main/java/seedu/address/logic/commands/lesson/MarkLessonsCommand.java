@@ -0,0 +1,175 @@
+package seedu.address.logic.commands.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.DEFAULT_DELIMITER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.course.Course;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Marks the attendance and/or participation of every student in one or more lessons at once.
+ * All the lessons are checked before any of them is changed, so the command either marks every lesson or none.
+ */
+public class MarkLessonsCommand extends Command {
+
+    public static final String COMMAND_WORD = "markall";
+    public static final CommandType COMMAND_TYPE = CommandType.LESSON;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the attendance and/or participation of every "
+            + "student in the lesson(s) at the chosen indices in the lesson list. "
+            + "\nStudents named as exceptions are given the opposite attendance, and their participation is unchanged, "
+            + "even if they do not take the chosen course."
+            + "\nIf participation is set to a positive integer, also sets attendance to true."
+            + "\nParameters: LESSON_INDEX [" + DEFAULT_DELIMITER + "LESSON_INDEX]… "
+            + "[" + PREFIX_ATTENDANCE + "ATTENDANCE (1/y/Y or 0/n/N)] "
+            + "[" + PREFIX_POINTS + "PARTICIPATION (integer from 0-100)] "
+            + "[" + PREFIX_COURSE + "COURSE] "
+            + "[" + PREFIX_EXCEPT + "NAME]…"
+            + "\nExample: " + COMMAND_WORD + " 1;2 a/y x/John Doe";
+
+    public static final String MESSAGE_SUCCESS = "Marked %d student(s) in %d lesson(s)";
+    public static final String MESSAGE_STUDENTS_NOT_FOUND_IN_LESSONS =
+            "Students to mark differently were not found in the chosen lesson(s): %s";
+
+    private final List<Index> indices;
+    private final Optional<Boolean> attendance;
+    private final Optional<Integer> participationScore;
+    private final Optional<Course> course;
+    private final Set<Name> exceptedNames;
+    private final Logger logger = LogsCenter.getLogger(MarkLessonsCommand.class);
+
+    /**
+     * @param indices of the lessons in the filtered lesson list
+     * @param attendance the attendance to give the students, if it should be set
+     * @param participationScore the participation score to give the students, if it should be set
+     * @param course if present, only students taking this course are marked
+     * @param exceptedNames names of students to give the opposite attendance to
+     */
+    public MarkLessonsCommand(List<Index> indices, Optional<Boolean> attendance, Optional<Integer> participationScore,
+            Optional<Course> course, Set<Name> exceptedNames) {
+        requireAllNonNull(indices, attendance, participationScore, course, exceptedNames);
+        assert attendance.isPresent() || participationScore.isPresent();
+        this.indices = List.copyOf(indices);
+        this.attendance = attendance;
+        this.participationScore = participationScore;
+        this.course = course;
+        this.exceptedNames = Set.copyOf(exceptedNames);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Marking students in " + indices.size() + " lesson(s)");
+        List<Lesson> lastShownLessonList = model.getFilteredLessonList();
+
+        for (Index index : indices) {
+            if (index.getZeroBased() >= lastShownLessonList.size()) {
+                throw new CommandException(
+                        String.format(MESSAGE_INVALID_LESSON_DISPLAYED_INDEX, index.getOneBased()));
+            }
+        }
+
+        List<Lesson> targetLessons = new ArrayList<>();
+        List<Lesson> editedLessons = new ArrayList<>();
+        Set<Name> unmatchedNames = new LinkedHashSet<>(exceptedNames);
+        int markedCount = 0;
+        for (Index index : indices) {
+            Lesson targetLesson = lastShownLessonList.get(index.getZeroBased());
+            Lesson editedLesson = new Lesson(targetLesson);
+            for (Student student : targetLesson.getStudents()) {
+                // Students are named as exceptions explicitly, so they are matched even if the course filter
+                // would leave them out
+                if (exceptedNames.contains(student.getName())) {
+                    unmatchedNames.remove(student.getName());
+                    attendance.ifPresent(isPresent -> editedLesson.setAttendance(student, !isPresent));
+                } else if (course.isEmpty() || student.getCourses().contains(course.get())) {
+                    mark(editedLesson, student);
+                }
+                if (isChanged(targetLesson, editedLesson, student)) {
+                    markedCount++;
+                }
+            }
+            targetLessons.add(targetLesson);
+            editedLessons.add(editedLesson);
+        }
+
+        if (!unmatchedNames.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENTS_NOT_FOUND_IN_LESSONS,
+                    String.join(", ", unmatchedNames.stream().map(name -> name.fullName).toList())));
+        }
+
+        for (int i = 0; i < targetLessons.size(); i++) {
+            model.setLesson(targetLessons.get(i), editedLessons.get(i));
+        }
+
+        logger.fine("Successfully marked " + markedCount + " student(s) in " + indices.size() + " lesson(s)");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, markedCount, indices.size()), COMMAND_TYPE);
+    }
+
+    /**
+     * Sets the attendance and participation of {@code student} in {@code lesson}.
+     */
+    private void mark(Lesson lesson, Student student) {
+        attendance.ifPresent(isPresent -> lesson.setAttendance(student, isPresent));
+        participationScore.ifPresent(score -> {
+            lesson.setParticipation(student, score);
+            if (score > 0) {
+                lesson.setAttendance(student, true);
+            }
+        });
+    }
+
+    /**
+     * Returns true if the attendance or participation of {@code student} differs between {@code lesson} and
+     * {@code editedLesson}.
+     */
+    private static boolean isChanged(Lesson lesson, Lesson editedLesson, Student student) {
+        return lesson.getAttendance(student) != editedLesson.getAttendance(student)
+                || lesson.getParticipation(student) != editedLesson.getParticipation(student);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+        return COMMAND_TYPE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof MarkLessonsCommand)) {
+            return false;
+        }
+
+        MarkLessonsCommand otherCommand = (MarkLessonsCommand) other;
+        return indices.equals(otherCommand.indices)
+                && attendance.equals(otherCommand.attendance)
+                && participationScore.equals(otherCommand.participationScore)
+                && course.equals(otherCommand.course)
+                && exceptedNames.equals(otherCommand.exceptedNames);
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.logic.commands.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.course.Course;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.lesson.AttendanceReport;
+import seedu.address.model.lesson.AttendanceReport.CourseSummary;
+import seedu.address.model.lesson.AttendanceReport.StudentSummary;
+
+/**
+ * Summarises the attendance and participation of students over all lessons in a date range,
+ * and optionally exports the summary to a CSV file.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+    public static final String FORCE_FLAG = "-f";
+    public static final CommandType COMMAND_TYPE = CommandType.LESSON;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Summarises the attendance and participation of every student over the lessons between two dates "
+            + "(inclusive), and exports the summary to a CSV file if a filename is given.\n"
+            + "Parameters: [" + FORCE_FLAG + "] [FILENAME] "
+            + "[" + PREFIX_COURSE + "COURSE] "
+            + "[" + PREFIX_DATE + "FROM_DATE] "
+            + "[" + PREFIX_DATE + "TO_DATE]\n"
+            + "Example: " + COMMAND_WORD + " grades " + PREFIX_COURSE + "CS2103T "
+            + PREFIX_DATE + "2024-08-12 " + PREFIX_DATE + "2024-11-15";
+
+    public static final String MESSAGE_HEADER = "Report over %1$d lesson(s):";
+    public static final String MESSAGE_STUDENT_SUMMARY =
+            "%1$s: attended %2$d/%3$d (%4$.1f%%), participation %5$d, longest absence streak %6$d";
+    public static final String MESSAGE_COURSE_HEADER = "Courses:";
+    public static final String MESSAGE_COURSE_SUMMARY = "%1$s: %2$d student(s), attended %3$.1f%%, participation %4$d";
+    public static final String MESSAGE_NO_STUDENTS = "No students to report on";
+    public static final String MESSAGE_EXPORTED = "Exported report to %1$s";
+    public static final String MESSAGE_EXPORTED_WITH_COPY = "Exported report to %1$s and %2$s";
+    public static final String MESSAGE_FAILURE = "Failed to export report: %1$s";
+    public static final String MESSAGE_FILE_EXISTS = "File %1$s already exists. Use -f flag to overwrite.";
+    public static final String MESSAGE_HOME_FILE_EXISTS =
+            "File %1$s already exists in home directory. Use -f flag to overwrite.";
+
+    private static final Logger logger = LogsCenter.getLogger(ReportCommand.class);
+
+    private final Optional<Course> course;
+    private final Optional<Date> fromDate;
+    private final Optional<Date> toDate;
+    private final Optional<String> filename;
+    private final boolean isForceExport;
+    private final Path baseDir;
+
+    /**
+     * Creates a ReportCommand that exports to the specified filename, if any, in the default directory.
+     */
+    public ReportCommand(Optional<Course> course, Optional<Date> fromDate, Optional<Date> toDate,
+            Optional<String> filename, boolean isForceExport) {
+        this(course, fromDate, toDate, filename, isForceExport, Paths.get("data"));
+    }
+
+    /**
+     * Creates a ReportCommand that exports to the specified filename, if any, in the specified directory.
+     * This constructor is primarily for testing purposes
+     */
+    public ReportCommand(Optional<Course> course, Optional<Date> fromDate, Optional<Date> toDate,
+            Optional<String> filename, boolean isForceExport, Path baseDir) {
+        requireNonNull(course);
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        requireNonNull(filename);
+        this.course = course;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.filename = filename;
+        this.isForceExport = isForceExport;
+        this.baseDir = baseDir;
+    }
+
+    @Override
+    public CommandType getCommandType() {
+        return COMMAND_TYPE;
+    }
+
+    /**
+     * Gets the home file path. Protected for testing purposes.
+     */
+    protected Path getHomeFilePath(String filename) {
+        return Paths.get(System.getProperty("user.home"), filename + ".csv");
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AttendanceReport report = AttendanceReport.of(model.getAttendanceMatrix(), course, fromDate, toDate);
+        logger.info("Reported on " + report.getStudentSummaries().size() + " students over "
+                + report.getLessonCount() + " lessons");
+
+        StringBuilder feedback = new StringBuilder(formatReport(report));
+        if (filename.isPresent()) {
+            feedback.append("\n").append(export(report, filename.get()));
+        }
+        return new CommandResult(feedback.toString(), COMMAND_TYPE);
+    }
+
+    /**
+     * Formats {@code report} for display.
+     */
+    static String formatReport(AttendanceReport report) {
+        if (report.getStudentSummaries().isEmpty()) {
+            return MESSAGE_NO_STUDENTS;
+        }
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_HEADER, report.getLessonCount()));
+        for (StudentSummary summary : report.getStudentSummaries()) {
+            builder.append("\n").append(String.format(MESSAGE_STUDENT_SUMMARY, summary.getStudent().getName(),
+                    summary.getLessonsAttended(), summary.getLessonsEnrolled(), summary.getAttendanceRate(),
+                    summary.getTotalParticipation(), summary.getLongestAbsenceStreak()));
+        }
+        if (!report.getCourseSummaries().isEmpty()) {
+            builder.append("\n").append(MESSAGE_COURSE_HEADER);
+            for (CourseSummary summary : report.getCourseSummaries()) {
+                builder.append("\n").append(String.format(MESSAGE_COURSE_SUMMARY, summary.getCourse(),
+                        summary.getStudentCount(), summary.getAttendanceRate(), summary.getTotalParticipation()));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes {@code report} to a CSV file in the data directory, copies it to the home directory,
+     * and returns a message saying where it was written.
+     */
+    private String export(AttendanceReport report, String filename) throws CommandException {
+        Path dataFilePath = baseDir.resolve(filename + ".csv");
+        Path homeFilePath = getHomeFilePath(filename);
+
+        try {
+            Files.createDirectories(baseDir);
+        } catch (IOException e) {
+            logger.warning("Failed to create directory: " + baseDir);
+            throw new CommandException(String.format(MESSAGE_FAILURE, "Could not create directory: " + e.getMessage()));
+        }
+
+        if (!isForceExport) {
+            if (Files.exists(dataFilePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_EXISTS, dataFilePath));
+            }
+            if (Files.exists(homeFilePath)) {
+                throw new CommandException(String.format(MESSAGE_HOME_FILE_EXISTS, homeFilePath));
+            }
+        }
+
+        try {
+            CsvWriter csvWriter = new CsvWriter(dataFilePath, homeFilePath, isForceExport);
+            try (csvWriter) {
+                writeCsvFile(csvWriter, report);
+            }
+            if (csvWriter.hasCopy()) {
+                return String.format(MESSAGE_EXPORTED_WITH_COPY, dataFilePath, homeFilePath);
+            }
+            return String.format(MESSAGE_EXPORTED, dataFilePath);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(dataFilePath);
+            } catch (IOException ignored) {
+                // Ignore cleanup errors
+            }
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()));
+        }
+    }
+
+    private void writeCsvFile(CsvWriter csvWriter, AttendanceReport report) throws IOException {
+        csvWriter.writeRawRecord(
+                "Name,Courses,Lessons,Attended,Attendance Rate,Participation,Longest Absence Streak");
+        List<String> courseCodes = new ArrayList<>();
+        for (StudentSummary summary : report.getStudentSummaries()) {
+            courseCodes.clear();
+            for (Course course : summary.getStudent().getCourses()) {
+                courseCodes.add(course.courseCode);
+            }
+            Collections.sort(courseCodes);
+            csvWriter.writeField(summary.getStudent().getName().fullName)
+                    .writeField(courseCodes, ';')
+                    .writeField(summary.getLessonsEnrolled())
+                    .writeField(summary.getLessonsAttended())
+                    .writeField(String.format(Locale.ROOT, "%.1f", summary.getAttendanceRate()))
+                    .writeField(summary.getTotalParticipation())
+                    .writeField(summary.getLongestAbsenceStreak())
+                    .endRecord();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ReportCommand)) {
+            return false;
+        }
+        ReportCommand otherCommand = (ReportCommand) other;
+        return course.equals(otherCommand.course)
+                && fromDate.equals(otherCommand.fromDate)
+                && toDate.equals(otherCommand.toDate)
+                && filename.equals(otherCommand.filename)
+                && isForceExport == otherCommand.isForceExport;
+    }
+}
@@ -29,10 +29,14 @@ import seedu.address.logic.commands.consultation.RemoveFromConsultCommand;
 import seedu.address.logic.commands.lesson.AddLessonCommand;
 import seedu.address.logic.commands.lesson.AddToLessonCommand;
 import seedu.address.logic.commands.lesson.DeleteLessonCommand;
+import seedu.address.logic.commands.lesson.ExportLessonCommand;
+import seedu.address.logic.commands.lesson.ImportLessonCommand;
 import seedu.address.logic.commands.lesson.ListLessonsCommand;
 import seedu.address.logic.commands.lesson.MarkLessonAttendanceCommand;
 import seedu.address.logic.commands.lesson.MarkLessonParticipationCommand;
+import seedu.address.logic.commands.lesson.MarkLessonsCommand;
 import seedu.address.logic.commands.lesson.RemoveFromLessonCommand;
+import seedu.address.logic.commands.lesson.ReportCommand;
 import seedu.address.logic.parser.consultation.AddConsultCommandParser;
 import seedu.address.logic.parser.consultation.AddToConsultCommandParser;
 import seedu.address.logic.parser.consultation.DeleteConsultCommandParser;
@@ -43,9 +47,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.lesson.AddLessonCommandParser;
 import seedu.address.logic.parser.lesson.AddToLessonCommandParser;
 import seedu.address.logic.parser.lesson.DeleteLessonCommandParser;
+import seedu.address.logic.parser.lesson.ExportLessonCommandParser;
+import seedu.address.logic.parser.lesson.ImportLessonCommandParser;
 import seedu.address.logic.parser.lesson.MarkLessonAttendanceCommandParser;
 import seedu.address.logic.parser.lesson.MarkLessonParticipationCommandParser;
+import seedu.address.logic.parser.lesson.MarkLessonsCommandParser;
 import seedu.address.logic.parser.lesson.RemoveFromLessonCommandParser;
+import seedu.address.logic.parser.lesson.ReportCommandParser;
 
 /**
  * Parses user input.
@@ -154,6 +162,18 @@ public class AddressBookParser {
         case MarkLessonParticipationCommand.COMMAND_WORD:
             return new MarkLessonParticipationCommandParser().parse(arguments);
 
+        case MarkLessonsCommand.COMMAND_WORD:
+            return new MarkLessonsCommandParser().parse(arguments);
+
+        case ReportCommand.COMMAND_WORD:
+            return new ReportCommandParser().parse(arguments);
+
+        case ExportLessonCommand.COMMAND_WORD:
+            return new ExportLessonCommandParser().parse(arguments);
+
+        case ImportLessonCommand.COMMAND_WORD:
+            return new ImportLessonCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
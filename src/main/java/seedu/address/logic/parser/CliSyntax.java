@@ -10,6 +10,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_COURSE = new Prefix("c/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("x/");
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_POINTS = new Prefix("pt/");
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser.lesson;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportFileResolver;
+import seedu.address.logic.commands.lesson.ImportLessonCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportLessonCommand object
+ */
+public class ImportLessonCommandParser implements Parser<ImportLessonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportLessonCommand
+     * and returns an ImportLessonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ImportLessonCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportLessonCommand.MESSAGE_USAGE)
+            );
+        }
+
+        // Validate that the path doesn't try to access project directory
+        if (trimmedArgs.contains("..") || trimmedArgs.startsWith("/") || trimmedArgs.startsWith("./")) {
+            throw new ParseException(ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT);
+        }
+
+        return new ImportLessonCommand(trimmedArgs);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.parser.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.lesson.MarkLessonsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.course.Course;
+import seedu.address.model.student.Name;
+
+/**
+ * Parses input arguments and creates a new MarkLessonsCommand object.
+ */
+public class MarkLessonsCommandParser implements Parser<MarkLessonsCommand> {
+
+    public static final String MESSAGE_DUPLICATE_INDEX = "Lesson index %d is given more than once!";
+    public static final String MESSAGE_ABSENT_WITH_PARTICIPATION =
+            "Students cannot be marked absent with a positive participation score!";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkLessonsCommand
+     * and returns a MarkLessonsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public MarkLessonsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE, PREFIX_POINTS, PREFIX_COURSE, PREFIX_EXCEPT);
+
+        if (argMultimap.getPreamble().isEmpty() || (argMultimap.getValue(PREFIX_ATTENDANCE).isEmpty()
+                && argMultimap.getValue(PREFIX_POINTS).isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkLessonsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE, PREFIX_POINTS, PREFIX_COURSE);
+
+        List<Index> indices = new ArrayList<>();
+        for (String indexString : ArgumentTokenizer.tokenizeWithDefault(argMultimap.getPreamble())) {
+            Index index = ParserUtil.parseIndex(indexString);
+            if (indices.contains(index)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_INDEX, index.getOneBased()));
+            }
+            indices.add(index);
+        }
+
+        Optional<Boolean> attendance = Optional.empty();
+        if (argMultimap.getValue(PREFIX_ATTENDANCE).isPresent()) {
+            attendance = Optional.of(ParserUtil.parseAttendance(argMultimap.getValue(PREFIX_ATTENDANCE).get()));
+        }
+        Optional<Integer> participationScore = Optional.empty();
+        if (argMultimap.getValue(PREFIX_POINTS).isPresent()) {
+            participationScore = Optional.of(ParserUtil.parsePoints(argMultimap.getValue(PREFIX_POINTS).get()));
+        }
+        if (attendance.equals(Optional.of(false)) && participationScore.orElse(0) > 0) {
+            throw new ParseException(MESSAGE_ABSENT_WITH_PARTICIPATION);
+        }
+
+        Optional<Course> course = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COURSE).isPresent()) {
+            course = Optional.of(ParserUtil.parseCourse(argMultimap.getValue(PREFIX_COURSE).get()));
+        }
+
+        Set<Name> exceptedNames = new HashSet<>();
+        for (String nameString : argMultimap.getAllValues(PREFIX_EXCEPT)) {
+            exceptedNames.add(ParserUtil.parseName(nameString));
+        }
+
+        return new MarkLessonsCommand(indices, attendance, participationScore, course, exceptedNames);
+    }
+}
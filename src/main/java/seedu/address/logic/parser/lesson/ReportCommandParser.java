@@ -0,0 +1,81 @@
+package seedu.address.logic.parser.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.lesson.ReportCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.course.Course;
+import seedu.address.model.datetime.Date;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object.
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    public static final String MESSAGE_INVALID_FILENAME =
+            "Filename can only contain alphanumeric characters (A-Z, a-z, 0-9)";
+    public static final String MESSAGE_TOO_MANY_DATES = "At most two dates can be given!";
+    public static final String MESSAGE_DATES_OUT_OF_ORDER = "The first date cannot be after the second date!";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COURSE, PREFIX_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_COURSE);
+
+        String preamble = argMultimap.getPreamble().trim();
+        boolean isForceExport = false;
+        if (preamble.equals(ReportCommand.FORCE_FLAG) || preamble.startsWith(ReportCommand.FORCE_FLAG + " ")) {
+            isForceExport = true;
+            preamble = preamble.substring(ReportCommand.FORCE_FLAG.length()).trim();
+            if (preamble.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+            }
+        }
+        Optional<String> filename = Optional.empty();
+        if (!preamble.isEmpty()) {
+            if (!preamble.matches("^[a-zA-Z0-9]+$")) {
+                throw new ParseException(MESSAGE_INVALID_FILENAME);
+            }
+            filename = Optional.of(preamble);
+        }
+
+        Optional<Course> course = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COURSE).isPresent()) {
+            course = Optional.of(ParserUtil.parseCourse(argMultimap.getValue(PREFIX_COURSE).get()));
+        }
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        if (dates.size() > 2) {
+            throw new ParseException(MESSAGE_TOO_MANY_DATES);
+        }
+        Optional<Date> fromDate = Optional.empty();
+        Optional<Date> toDate = Optional.empty();
+        if (dates.size() >= 1) {
+            fromDate = Optional.of(ParserUtil.parseDate(dates.get(0)));
+        }
+        if (dates.size() == 2) {
+            toDate = Optional.of(ParserUtil.parseDate(dates.get(1)));
+            if (fromDate.get().compareTo(toDate.get()) > 0) {
+                throw new ParseException(MESSAGE_DATES_OUT_OF_ORDER);
+            }
+        }
+
+        return new ReportCommand(course, fromDate, toDate, filename, isForceExport);
+    }
+}
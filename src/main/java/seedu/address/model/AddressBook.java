@@ -3,27 +3,46 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.consultation.Consultation;
 import seedu.address.model.consultation.UniqueConsultList;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
+import seedu.address.model.lesson.AttendanceMatrix;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.UniqueLessonList;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicate students are not allowed (by .isSameStudent comparison)
+ * Consultations and lessons are indexed by the students in them, so that changes to a student only visit the
+ * consultations and lessons of that student.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueStudentList students;
     private final UniqueConsultList consults; // Use UniqueConsultList instead of ObservableList
     private final UniqueLessonList lessons;
+    private final StudentReferenceIndex<Consultation> consultIndex =
+            new StudentReferenceIndex<>(Consultation::getEpochMinute, Consultation::getStudents, consult -> true,
+                    consult -> Set.of());
+    private final StudentReferenceIndex<Lesson> lessonIndex =
+            new StudentReferenceIndex<>(Lesson::getEpochMinute, Lesson::getStudents,
+                    Lesson::isStudentLessonInfoLoaded, Lesson::getPossibleStudentNames);
+    /** Incremented on every change. Student changes increment it first, as listeners of the list may read it. */
+    private long version;
+    private AttendanceMatrix attendanceMatrix;
+    private long attendanceMatrixVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -60,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code students} must not contain duplicate students.
      */
     public void setStudents(List<Student> students) {
+        version++;
         this.students.setStudents(students);
     }
 
@@ -79,7 +99,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addConsult(Consultation consult) {
         requireNonNull(consult);
         consults.add(consult);
-        consults.sort();
+        consultIndex.add(consult);
+        version++;
+    }
+
+    /**
+     * Adds {@code consults} to the address book at once.
+     * None of them may already exist in the address book, and they must not contain duplicates.
+     */
+    public void addConsults(List<Consultation> consults) {
+        this.consults.addAll(consults);
+        consults.forEach(consultIndex::add);
+        version++;
     }
 
     /**
@@ -87,7 +118,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setConsults(List<Consultation> consults) {
         this.consults.setConsults(consults); // Use setConsults method from UniqueConsultList
-        this.consults.sort();
+        consultIndex.setAll(consults);
+        version++;
     }
 
     /**
@@ -97,6 +129,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setConsult(Consultation target, Consultation editedConsult) {
         requireAllNonNull(target, editedConsult);
         consults.setConsult(target, editedConsult); // Use setConsult method from UniqueConsultList
+        consultIndex.remove(target);
+        consultIndex.add(editedConsult);
+        version++;
     }
 
     /**
@@ -106,6 +141,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeConsult(Consultation consult) {
         requireNonNull(consult);
         consults.remove(consult); // Use remove method from UniqueConsultList
+        consultIndex.remove(consult);
+        version++;
+    }
+
+    /**
+     * Returns the first consultation after the given {@code date} and {@code time}, if there is one.
+     */
+    public Optional<Consultation> getNextConsultAfter(Date date, Time time) {
+        return consults.getNextConsultAfter(date, time);
     }
 
     /**
@@ -120,7 +164,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
-        this.lessons.sort();
+        lessonIndex.setAll(lessons);
+        version++;
     }
 
     /**
@@ -144,14 +189,64 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student in the address book with the given {@code name}, if there is one.
+     */
+    public Optional<Student> findStudentByName(Name name) {
+        requireNonNull(name);
+        return students.find(name);
+    }
+
+    /**
+     * Returns the students in the address book taking any of the courses with the given {@code courseCodes},
+     * which must be in upper case. The returned set compares students by identity.
+     */
+    public Set<Student> getStudentsTakingAnyOf(Collection<String> courseCodes) {
+        return students.getStudentsTakingAnyOf(courseCodes);
+    }
+
+    /**
+     * Returns the students in the address book whose names contain any of the {@code keywords}, ignoring case.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords) {
+        return students.getStudentsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the students in the address book whose full names are within {@code maxDistance} edits of
+     * {@code name}, ignoring case, closest first.
+     */
+    public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+        return students.getStudentsWithNameNear(name, maxDistance);
+    }
+
+    /**
+     * Returns the students in the address book with a word in their name within {@code maxDistance} edits of
+     * {@code word}, ignoring case. The returned set compares students by identity.
+     */
+    public Set<Student> getStudentsWithNameWordNear(String word, int maxDistance) {
+        return students.getStudentsWithNameWordNear(word, maxDistance);
+    }
+
     /**
      * Adds a student to the address book.
      * The student must not already exist in the address book.
      */
     public void addStudent(Student p) {
+        version++;
         students.add(p);
     }
 
+    /**
+     * Adds {@code students} to the address book at once.
+     * None of them may already exist in the address book, and they must not contain duplicates.
+     */
+    public void addStudents(List<Student> students) {
+        version++;
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with
      * {@code editedStudent}.
@@ -163,10 +258,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedStudent);
 
         // Set Student in Student List
+        version++;
         students.setStudent(target, editedStudent);
 
         // Set Student in Consultation List
-        List<Consultation> consultsWithEditedStudent = consults.filtered(c -> c.hasStudent(target));
+        List<Consultation> consultsWithEditedStudent = consultIndex.getEntriesWith(target.getName()).stream()
+                .filter(c -> c.hasStudent(target)).toList();
         consultsWithEditedStudent.forEach(c -> {
             Consultation newConsult = new Consultation(c);
             newConsult.setStudent(target, editedStudent);
@@ -174,7 +271,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         });
 
         // Set Student in Lesson List
-        List<Lesson> lessonsWithEditedStudent = lessons.filtered(l -> l.hasStudent(target)).stream().toList();
+        List<Lesson> lessonsWithEditedStudent = lessonIndex.getEntriesWith(target.getName()).stream()
+                .filter(l -> l.hasStudent(target)).toList();
         lessonsWithEditedStudent.forEach(l -> {
             Lesson newLesson = new Lesson(l);
             newLesson.setStudent(target, editedStudent);
@@ -188,10 +286,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeStudent(Student key) {
+        version++;
         students.remove(key);
 
         // Remove from consultations
-        List<Consultation> consultsWithDeletedStudent = consults.filtered(c -> c.hasStudent(key));
+        List<Consultation> consultsWithDeletedStudent = consultIndex.getEntriesWith(key.getName()).stream()
+                .filter(c -> c.hasStudent(key)).toList();
         consultsWithDeletedStudent.forEach(c -> {
             Consultation newConsult = new Consultation(c);
             newConsult.removeStudent(key);
@@ -199,7 +299,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         });
 
         // Remove from lessons
-        List<Lesson> lessonsWithDeletedStudent = lessons.filtered(l -> l.hasStudent(key)).stream().toList();
+        List<Lesson> lessonsWithDeletedStudent = lessonIndex.getEntriesWith(key.getName()).stream()
+                .filter(l -> l.hasStudent(key)).toList();
         lessonsWithDeletedStudent.forEach(l -> {
             Lesson newLesson = new Lesson(l);
             newLesson.removeStudent(key);
@@ -207,6 +308,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         });
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the attendance and participation of every student in every lesson as an {@code AttendanceMatrix}.
+     * The matrix is rebuilt on the first call after the address book changes.
+     */
+    public AttendanceMatrix getAttendanceMatrix() {
+        if (attendanceMatrix == null || attendanceMatrixVersion != version) {
+            attendanceMatrix = new AttendanceMatrix(getStudentList(), getLessonList());
+            attendanceMatrixVersion = version;
+        }
+        return attendanceMatrix;
+    }
+
     //// util methods
 
     @Override
@@ -268,7 +386,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a {@code Lesson} to the address book and sorts the lesson list by date.
+     * Adds a {@code Lesson} to the address book, keeping the lesson list sorted by date.
      * If two lessons have the same date, they are further sorted by time.
      *
      * @param lesson The lesson to add.
@@ -277,7 +395,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addLesson(Lesson lesson) {
         requireNonNull(lesson);
         lessons.add(lesson);
-        lessons.sort();
+        lessonIndex.add(lesson);
+        version++;
+    }
+
+    /**
+     * Adds {@code lessons} to the address book at once.
+     * None of them may already exist in the address book, and they must not contain duplicates.
+     */
+    public void addLessons(List<Lesson> lessons) {
+        this.lessons.addAll(lessons);
+        lessons.forEach(lessonIndex::add);
+        version++;
     }
 
     /**
@@ -288,6 +417,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeLesson(Lesson lesson) {
         lessons.remove(lesson);
+        lessonIndex.remove(lesson);
+        version++;
     }
 
     /**
@@ -300,6 +431,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the lessons from {@code start} to {@code end}, both inclusive, in chronological order.
+     *
+     * @param start The first date to include.
+     * @param end The last date to include.
+     * @return The lessons between the two dates.
+     */
+    public List<Lesson> getLessonsBetween(Date start, Date end) {
+        return lessons.getLessonsBetween(start, end);
+    }
+
     /**
      * Replaces the given lesson {@code target} in the list with
      * {@code editedLesson}.
@@ -315,5 +457,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
         lessons.setLesson(target, editedLesson);
+        lessonIndex.remove(target);
+        lessonIndex.add(editedLesson);
+        version++;
     }
 }
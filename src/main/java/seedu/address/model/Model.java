@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.AttendanceMatrix;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 
 /**
@@ -79,6 +84,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students at once, updating the student list only once.
+     * None of {@code students} may already exist in the address book, and they must not contain duplicates.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the address book.
@@ -113,6 +124,14 @@ public interface Model {
      */
     void addConsult(Consultation consult);
 
+    /**
+     * Adds the given consults at once, updating the consultation list only once.
+     * None of {@code consults} may already exist in TAHub, and they must not contain duplicates.
+     *
+     * @param consults Consultations to be added.
+     */
+    void addConsults(List<Consultation> consults);
+
     /**
      * Replaces the given Consultation {@code target} with {@code editedConsult}.
      * {@code target} must exist in TAHub.
@@ -140,12 +159,36 @@ public interface Model {
     void deleteConsult(Consultation consult);
 
     /**
-     * Finds a student by their name.
+     * Finds a student by their name, whether or not they are in the filtered student list.
      *
      * @param name The name of the student to search for.
      * @return An Optional containing the student if found, or empty if not.
      */
-    Optional<Student> findStudentByName(seedu.address.model.student.Name name);
+    Optional<Student> findStudentByName(Name name);
+
+    /**
+     * Returns the students taking any of the courses with the given {@code courseCodes}, which must be in upper
+     * case, whether or not they are in the filtered student list. The returned set compares students by identity.
+     */
+    Set<Student> getStudentsTakingAnyOf(Collection<String> courseCodes);
+
+    /**
+     * Returns the students whose names contain any of the {@code keywords}, ignoring case, whether or not they are
+     * in the filtered student list. The returned set compares students by identity.
+     */
+    Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords);
+
+    /**
+     * Returns the students whose full names are within {@code maxDistance} edits of {@code name}, ignoring case,
+     * closest first, whether or not they are in the filtered student list.
+     */
+    List<Student> getStudentsWithNameNear(String name, int maxDistance);
+
+    /**
+     * Returns the students with a word in their name within {@code maxDistance} edits of {@code word}, ignoring
+     * case, whether or not they are in the filtered student list. The returned set compares students by identity.
+     */
+    Set<Student> getStudentsWithNameWordNear(String word, int maxDistance);
 
     /**
      * Returns true if a lesson with the same details as {@code lesson} exists in
@@ -160,6 +203,14 @@ public interface Model {
      */
     void addLesson(Lesson lesson);
 
+    /**
+     * Adds the given lessons at once, updating the lesson list only once.
+     * None of {@code lessons} may already exist in TAHub, and they must not contain duplicates.
+     *
+     * @param lessons Lessons to be added.
+     */
+    void addLessons(List<Lesson> lessons);
+
     /**
      * Deletes the given lesson.
      * The lesson must exist in TAHub.
@@ -175,6 +226,12 @@ public interface Model {
      */
     void setLesson(Lesson target, Lesson editedLesson);
 
+    /**
+     * Returns the attendance and participation of every student in every lesson, for computing summaries.
+     * The returned matrix does not change when the model changes.
+     */
+    AttendanceMatrix getAttendanceMatrix();
+
     /** Returns an unmodifiable view of the filtered lesson list */
     ObservableList<Lesson> getFilteredLessonList();
 
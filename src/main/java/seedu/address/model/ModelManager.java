@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +16,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.AttendanceMatrix;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
@@ -114,6 +118,13 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        requireNonNull(students);
+        addressBook.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
@@ -161,6 +172,13 @@ public class ModelManager implements Model {
         updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
     }
 
+    @Override
+    public void addConsults(List<Consultation> consults) {
+        requireNonNull(consults);
+        addressBook.addConsults(consults);
+        updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
+    }
+
     @Override
     public void setConsult(Consultation target, Consultation newConsult) {
         requireAllNonNull(target, newConsult);
@@ -174,10 +192,27 @@ public class ModelManager implements Model {
 
     @Override
     public Optional<Student> findStudentByName(Name name) {
-        requireNonNull(name);
-        return filteredStudents.stream()
-                .filter(student -> student.getName().equals(name))
-                .findFirst(); // Find and return the student by name
+        return addressBook.findStudentByName(name);
+    }
+
+    @Override
+    public Set<Student> getStudentsTakingAnyOf(Collection<String> courseCodes) {
+        return addressBook.getStudentsTakingAnyOf(courseCodes);
+    }
+
+    @Override
+    public Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords) {
+        return addressBook.getStudentsWithNameContainingAny(keywords);
+    }
+
+    @Override
+    public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+        return addressBook.getStudentsWithNameNear(name, maxDistance);
+    }
+
+    @Override
+    public Set<Student> getStudentsWithNameWordNear(String word, int maxDistance) {
+        return addressBook.getStudentsWithNameWordNear(word, maxDistance);
     }
 
     @Override
@@ -199,6 +234,13 @@ public class ModelManager implements Model {
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
+    @Override
+    public void addLessons(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        addressBook.addLessons(lessons);
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
     @Override
     public void setLesson(Lesson target, Lesson newLesson) {
         requireAllNonNull(target, newLesson);
@@ -210,6 +252,11 @@ public class ModelManager implements Model {
         addressBook.removeLesson(lesson);
     }
 
+    @Override
+    public AttendanceMatrix getAttendanceMatrix() {
+        return addressBook.getAttendanceMatrix();
+    }
+
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
         return filteredLessons;
@@ -27,4 +27,10 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate lessons.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns a counter that increases whenever the address book is modified.
+     * Two calls that return the same value were not separated by any modification.
+     */
+    long getVersion();
 }
@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Maps each student to the entries (consultations or lessons) that they appear in, so that changes to a student
+ * only need to visit the entries that refer to them.
+ * <p>
+ * Entries are identified by their date and time, as given by their epoch minute. Entries whose students are not
+ * loaded yet (see {@link seedu.address.model.lesson.Lesson#deferred}) are kept under the names of the students they
+ * may refer to, and only loaded and indexed when the index is queried for one of those names, so that building the
+ * index and changing other students do not load them.
+ *
+ * @param <T> The type of entry that refers to students.
+ */
+class StudentReferenceIndex<T> {
+
+    private final ToLongFunction<T> keyOf;
+    private final Function<T, List<Student>> studentsOf;
+    private final Predicate<T> isLoaded;
+    private final Function<T, Set<Name>> possibleNamesOf;
+
+    private final Map<Long, T> indexedEntries = new HashMap<>();
+    private final Map<Name, Map<Long, T>> entriesByStudent = new HashMap<>();
+    /** The names that each entry not indexed yet may refer to, as they were when it was added. */
+    private final Map<Long, Set<Name>> pendingNames = new HashMap<>();
+    private final Map<Name, Map<Long, T>> pendingEntriesByStudent = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param keyOf Returns the key identifying an entry.
+     * @param studentsOf Returns the students of an entry.
+     * @param isLoaded Returns true if the students of an entry can be read without loading them.
+     * @param possibleNamesOf Returns the names of the students an entry may refer to, without loading it.
+     */
+    StudentReferenceIndex(ToLongFunction<T> keyOf, Function<T, List<Student>> studentsOf, Predicate<T> isLoaded,
+            Function<T, Set<Name>> possibleNamesOf) {
+        this.keyOf = keyOf;
+        this.studentsOf = studentsOf;
+        this.isLoaded = isLoaded;
+        this.possibleNamesOf = possibleNamesOf;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code entries}.
+     */
+    void setAll(List<T> entries) {
+        indexedEntries.clear();
+        entriesByStudent.clear();
+        pendingNames.clear();
+        pendingEntriesByStudent.clear();
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code entry} to the index. No other entry with the same key may be in the index.
+     */
+    void add(T entry) {
+        requireNonNull(entry);
+        if (isLoaded.test(entry)) {
+            index(entry);
+            return;
+        }
+        long key = keyOf.applyAsLong(entry);
+        Set<Name> names = possibleNamesOf.apply(entry);
+        pendingNames.put(key, names);
+        for (Name name : names) {
+            pendingEntriesByStudent.computeIfAbsent(name, unused -> new HashMap<>()).put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the entry with the same key as {@code entry} from the index, if there is one.
+     */
+    void remove(T entry) {
+        requireNonNull(entry);
+        long key = keyOf.applyAsLong(entry);
+        if (removePending(key)) {
+            return;
+        }
+        T indexedEntry = indexedEntries.remove(key);
+        if (indexedEntry == null) {
+            return;
+        }
+        for (Student student : studentsOf.apply(indexedEntry)) {
+            removeFrom(entriesByStudent, student.getName(), key);
+        }
+    }
+
+    /**
+     * Returns the entries that refer to a student with the given {@code name}.
+     * Entries that are not indexed yet are loaded and indexed if they may refer to the student.
+     * The returned list is a copy, so the index may be changed while iterating over it.
+     */
+    List<T> getEntriesWith(Name name) {
+        requireNonNull(name);
+        Map<Long, T> pendingEntries = pendingEntriesByStudent.get(name);
+        if (pendingEntries != null) {
+            for (T entry : new ArrayList<>(pendingEntries.values())) {
+                removePending(keyOf.applyAsLong(entry));
+                index(entry);
+            }
+        }
+        return new ArrayList<>(entriesByStudent.getOrDefault(name, Map.of()).values());
+    }
+
+    /**
+     * Removes the entry with the given {@code key} from the entries not indexed yet.
+     *
+     * @return true if there was such an entry.
+     */
+    private boolean removePending(long key) {
+        Set<Name> names = pendingNames.remove(key);
+        if (names == null) {
+            return false;
+        }
+        for (Name name : names) {
+            removeFrom(pendingEntriesByStudent, name, key);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the entry with the given {@code key} from those kept under {@code name} in {@code entriesByName}.
+     */
+    private static <T> void removeFrom(Map<Name, Map<Long, T>> entriesByName, Name name, long key) {
+        Map<Long, T> entries = entriesByName.get(name);
+        entries.remove(key);
+        if (entries.isEmpty()) {
+            entriesByName.remove(name);
+        }
+    }
+
+    /**
+     * Indexes the students of {@code entry}, loading them if needed.
+     */
+    private void index(T entry) {
+        long key = keyOf.applyAsLong(entry);
+        indexedEntries.put(key, entry);
+        for (Student student : studentsOf.apply(entry)) {
+            entriesByStudent.computeIfAbsent(student.getName(), name -> new HashMap<>()).put(key, entry);
+        }
+    }
+}
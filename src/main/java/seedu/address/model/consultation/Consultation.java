@@ -20,6 +20,7 @@ public class Consultation {
 
     private final Date date;
     private final Time time;
+    private final long epochMinute;
     private final List<Student> students;
 
     /**
@@ -35,6 +36,7 @@ public class Consultation {
         requireAllNonNull(date, time);
         this.date = date;
         this.time = time;
+        this.epochMinute = date.toEpochMinute(time);
 
         this.students = students != null ? new ArrayList<>(students) : new ArrayList<>();
     }
@@ -50,6 +52,7 @@ public class Consultation {
         requireNonNull(consultation);
         this.date = new Date(consultation.getDate().getValue());
         this.time = new Time(consultation.getTime().getValue());
+        this.epochMinute = consultation.epochMinute;
         this.students = new ArrayList<>(consultation.getStudents());
     }
 
@@ -71,6 +74,15 @@ public class Consultation {
         return time;
     }
 
+    /**
+     * Returns the date and time of the consultation as the number of minutes since 1970-01-01 00:00.
+     * Consultations are ordered chronologically by this value, and two consultations are the same consultation
+     * if it is equal.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
     /**
      * Returns an immutable list of students attending the consultation.
      *
@@ -1,11 +1,15 @@
 package seedu.address.model.consultation;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
+import static seedu.address.commons.util.CollectionUtil.lowerBound;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -13,10 +17,13 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.consultation.exceptions.ConsultationNotFoundException;
 import seedu.address.model.consultation.exceptions.DuplicateConsultationException;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
 
 /**
  * A list of consultations that enforces uniqueness between its elements and does not allow nulls.
  * A consultation is considered unique by comparing using {@code Consultation#isSameConsultation(Consultation)}.
+ * The list is kept in chronological order, so consultations are found by binary search on their date and time.
  */
 public class UniqueConsultList implements Iterable<Consultation> {
 
@@ -29,7 +36,8 @@ public class UniqueConsultList implements Iterable<Consultation> {
      */
     public boolean contains(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameConsultation);
+        int index = lowerBound(internalList, toCheck.getEpochMinute(), Consultation::getEpochMinute);
+        return index < internalList.size() && internalList.get(index).isSameConsultation(toCheck);
     }
 
     /**
@@ -41,7 +49,36 @@ public class UniqueConsultList implements Iterable<Consultation> {
         if (contains(toAdd)) {
             throw new DuplicateConsultationException();
         }
-        internalList.add(toAdd);
+        internalList.add(lowerBound(internalList, toAdd.getEpochMinute(), Consultation::getEpochMinute), toAdd);
+    }
+
+    /**
+     * Adds {@code consultations} to the list with a single change to the list.
+     * They are sorted once and merged into the list, instead of being inserted one at a time.
+     * {@code consultations} must not contain duplicate consultations or consultations already in the list.
+     */
+    public void addAll(List<Consultation> consultations) {
+        requireAllNonNull(consultations);
+        List<Consultation> duplicates = findDuplicates(consultations, UniqueConsultList::identityOf);
+        consultations.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateConsultationException(duplicates);
+        }
+
+        List<Consultation> sorted = new ArrayList<>(consultations);
+        sorted.sort(Comparator.comparingLong(Consultation::getEpochMinute));
+        List<Consultation> merged = new ArrayList<>(internalList.size() + sorted.size());
+        int i = 0;
+        int j = 0;
+        while (i < internalList.size() || j < sorted.size()) {
+            if (j == sorted.size() || (i < internalList.size()
+                    && internalList.get(i).getEpochMinute() < sorted.get(j).getEpochMinute())) {
+                merged.add(internalList.get(i++));
+            } else {
+                merged.add(sorted.get(j++));
+            }
+        }
+        internalList.setAll(merged);
     }
 
     /**
@@ -53,7 +90,7 @@ public class UniqueConsultList implements Iterable<Consultation> {
     public void setConsult(Consultation target, Consultation editedConsult) {
         requireAllNonNull(target, editedConsult);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ConsultationNotFoundException();
         }
@@ -62,7 +99,14 @@ public class UniqueConsultList implements Iterable<Consultation> {
             throw new DuplicateConsultationException();
         }
 
-        internalList.set(index, editedConsult);
+        // Replace in place if the edited consult still belongs at the same position, otherwise move it there
+        int newIndex = lowerBound(internalList, editedConsult.getEpochMinute(), Consultation::getEpochMinute);
+        if (newIndex == index || newIndex == index + 1) {
+            internalList.set(index, editedConsult);
+        } else {
+            internalList.remove(index);
+            internalList.add(newIndex > index ? newIndex - 1 : newIndex, editedConsult);
+        }
     }
 
     /**
@@ -71,9 +115,11 @@ public class UniqueConsultList implements Iterable<Consultation> {
      */
     public void remove(Consultation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ConsultationNotFoundException();
         }
+        internalList.remove(index);
     }
 
     public void setConsults(UniqueConsultList replacement) {
@@ -87,11 +133,14 @@ public class UniqueConsultList implements Iterable<Consultation> {
      */
     public void setConsults(List<Consultation> consultations) {
         requireAllNonNull(consultations);
-        if (!consultsAreUnique(consultations)) {
-            throw new DuplicateConsultationException();
+        List<Consultation> duplicates = findDuplicates(consultations, UniqueConsultList::identityOf);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateConsultationException(duplicates);
         }
 
-        internalList.setAll(consultations);
+        List<Consultation> sorted = new ArrayList<>(consultations);
+        sorted.sort(Comparator.comparingLong(Consultation::getEpochMinute));
+        internalList.setAll(sorted);
     }
 
     /**
@@ -119,17 +168,19 @@ public class UniqueConsultList implements Iterable<Consultation> {
     }
 
     /**
-     * Returns true if {@code consultations} contains only unique consultations.
+     * Returns the index of {@code consult} in the list, or -1 if it is not in the list.
      */
-    private boolean consultsAreUnique(List<Consultation> consultations) {
-        for (int i = 0; i < consultations.size() - 1; i++) {
-            for (int j = i + 1; j < consultations.size(); j++) {
-                if (consultations.get(i).isSameConsultation(consultations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int indexOf(Consultation consult) {
+        int index = lowerBound(internalList, consult.getEpochMinute(), Consultation::getEpochMinute);
+        return index < internalList.size() && internalList.get(index).equals(consult) ? index : -1;
+    }
+
+    /**
+     * Returns the identity of {@code consultation}, consistent with
+     * {@code Consultation#isSameConsultation(Consultation)}.
+     */
+    private static List<Object> identityOf(Consultation consultation) {
+        return List.of(consultation.getDate(), consultation.getTime());
     }
 
     /**
@@ -141,12 +192,11 @@ public class UniqueConsultList implements Iterable<Consultation> {
     }
 
     /**
-     * Sorts the list of consultations by date first, and then by time if the dates are the same.
-     * This method ensures that the consultations are ordered chronologically within the list.
-     * The list is sorted in-place, meaning the order of elements in the internal list is modified.
+     * Returns the first consultation after the given {@code date} and {@code time}, if there is one.
      */
-    public void sort() {
-        internalList.sort(Comparator.comparing(Consultation::getDate)
-                                     .thenComparing(Consultation::getTime));
+    public Optional<Consultation> getNextConsultAfter(Date date, Time time) {
+        requireAllNonNull(date, time);
+        int index = lowerBound(internalList, date.toEpochMinute(time) + 1, Consultation::getEpochMinute);
+        return index < internalList.size() ? Optional.of(internalList.get(index)) : Optional.empty();
     }
 }
@@ -1,5 +1,10 @@
 package seedu.address.model.consultation.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.consultation.Consultation;
+
 /**
  * Signals that the operation will result in duplicate Consultations
  * (Consultations are considered duplicates if they have the same identity).
@@ -8,4 +13,13 @@ public class DuplicateConsultationException extends RuntimeException {
     public DuplicateConsultationException() {
         super("Operation would result in duplicate consultations");
     }
+
+    /**
+     * Creates an exception listing the offending {@code duplicates}.
+     */
+    public DuplicateConsultationException(List<Consultation> duplicates) {
+        super("Operation would result in duplicate consultations: " + duplicates.stream()
+                .map(consult -> consult.getDate() + " " + consult.getTime())
+                .collect(Collectors.joining(", ")));
+    }
 }
@@ -15,7 +15,10 @@ public class Date implements Comparable<Date> {
     public static final String MESSAGE_CONSTRAINTS = "Dates should be in the format YYYY-MM-DD, "
             + "and must be a valid date (e.g., no month 13 or day 32).";
 
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
     private final String value;
+    private final long epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -28,6 +31,7 @@ public class Date implements Comparable<Date> {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.value = date;
+        this.epochDay = getLocalDateValue().toEpochDay();
     }
 
     /**
@@ -49,6 +53,24 @@ public class Date implements Comparable<Date> {
         return LocalDate.parse(value, DateTimeFormatter.ofPattern("uuuu-MM-dd"));
     }
 
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to the given {@code time} on this date.
+     * Ordering dates and times by this value is the same as ordering them by date, then by time.
+     *
+     * @param time The time on this date.
+     * @return The number of minutes since the epoch.
+     */
+    public long toEpochMinute(Time time) {
+        return epochDay * MINUTES_PER_DAY + time.getMinuteOfDay();
+    }
+
     /**
      * Returns true if a given string is a valid date format (UUUU-MM-DD) and represents a real date.
      *
@@ -77,7 +99,7 @@ public class Date implements Comparable<Date> {
      *         or greater than the specified date.
      */
     public int compareTo(Date otherDate) {
-        return this.value.compareTo(otherDate.value); // Compare LocalDate objects
+        return Long.compare(epochDay, otherDate.epochDay);
     }
 
     @Override
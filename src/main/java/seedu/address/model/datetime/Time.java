@@ -16,6 +16,7 @@ public class Time implements Comparable<Time> {
         + "where hour is between 00 and 23, and minute between 00 and 59 (e.g., 14:30).";
 
     private final String value;
+    private final int minuteOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -28,6 +29,8 @@ public class Time implements Comparable<Time> {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.value = time;
+        LocalTime localTime = getLocalTimeValue();
+        this.minuteOfDay = localTime.getHour() * 60 + localTime.getMinute();
     }
 
     /**
@@ -40,6 +43,13 @@ public class Time implements Comparable<Time> {
         return LocalTime.parse(value, DateTimeFormatter.ofPattern("HH:mm"));
     }
 
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
     /**
      * Returns the value of the time as a string.
      *
@@ -75,7 +85,7 @@ public class Time implements Comparable<Time> {
      *         or after the specified time.
      */
     public int compareTo(Time otherTime) {
-        return this.getLocalTimeValue().compareTo(otherTime.getLocalTimeValue());
+        return Integer.compare(minuteOfDay, otherTime.minuteOfDay);
     }
 
     @Override
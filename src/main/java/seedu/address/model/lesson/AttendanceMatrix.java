@@ -0,0 +1,185 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.lowerBound;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * A dense, read-only copy of the attendance and participation of every student in every lesson, for computing
+ * summaries over many lessons without walking every lesson's student lesson info.
+ * <p>
+ * Students and lessons are numbered by their position in the lists the matrix was built from, and lessons are in
+ * chronological order, so a range of dates is a range of lesson ordinals. For each student, one bit per lesson
+ * records whether the student is in the lesson, and another whether they attended it. Participation scores are
+ * kept in one int array, with the scores of each student in consecutive elements.
+ */
+public class AttendanceMatrix {
+
+    private static final Time START_OF_DAY = new Time("00:00");
+    private static final Time END_OF_DAY = new Time("23:59");
+
+    private final List<Student> students;
+    private final List<Lesson> lessons;
+    private final Map<Name, Integer> studentOrdinals = new HashMap<>();
+    private final int wordsPerStudent;
+    private final long[] enrolledBits;
+    private final long[] attendedBits;
+    private final int[] participation;
+
+    /**
+     * Builds the matrix of {@code students} against {@code lessons}.
+     * Students in a lesson who are not in {@code students} are left out.
+     *
+     * @param students The students, in the order they should be numbered.
+     * @param lessons The lessons, in chronological order.
+     */
+    public AttendanceMatrix(List<Student> students, List<Lesson> lessons) {
+        requireNonNull(students);
+        requireNonNull(lessons);
+        this.students = List.copyOf(students);
+        this.lessons = List.copyOf(lessons);
+        for (int i = 0; i < this.students.size(); i++) {
+            studentOrdinals.put(this.students.get(i).getName(), i);
+        }
+
+        wordsPerStudent = (this.lessons.size() + Long.SIZE - 1) / Long.SIZE;
+        enrolledBits = new long[this.students.size() * wordsPerStudent];
+        attendedBits = new long[this.students.size() * wordsPerStudent];
+        participation = new int[this.students.size() * this.lessons.size()];
+        for (int lesson = 0; lesson < this.lessons.size(); lesson++) {
+            for (StudentLessonInfo info : this.lessons.get(lesson).getStudentLessonInfoList()) {
+                Integer student = studentOrdinals.get(info.getStudent().getName());
+                if (student == null) {
+                    continue;
+                }
+                int word = student * wordsPerStudent + (lesson >>> 6);
+                enrolledBits[word] |= 1L << lesson;
+                if (info.getAttendance()) {
+                    attendedBits[word] |= 1L << lesson;
+                }
+                participation[student * this.lessons.size() + lesson] = info.getParticipationScore();
+            }
+        }
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the ordinal of the student with the given {@code name}, if they are in the matrix.
+     */
+    public OptionalInt getStudentOrdinal(Name name) {
+        Integer ordinal = studentOrdinals.get(name);
+        return ordinal == null ? OptionalInt.empty() : OptionalInt.of(ordinal);
+    }
+
+    /**
+     * Returns the ordinal of the first lesson on or after {@code date}, or the number of lessons if there is none.
+     */
+    public int getFirstLessonOnOrAfter(Date date) {
+        return lowerBound(lessons, date.toEpochMinute(START_OF_DAY), Lesson::getEpochMinute);
+    }
+
+    /**
+     * Returns the ordinal of the first lesson after {@code date}, or the number of lessons if there is none.
+     */
+    public int getFirstLessonAfter(Date date) {
+        return lowerBound(lessons, date.toEpochMinute(END_OF_DAY) + 1, Lesson::getEpochMinute);
+    }
+
+    /**
+     * Returns the number of lessons from {@code fromLesson} (inclusive) to {@code toLesson} (exclusive)
+     * that the student is in.
+     */
+    public int countEnrolled(int student, int fromLesson, int toLesson) {
+        return countBits(enrolledBits, student, fromLesson, toLesson);
+    }
+
+    /**
+     * Returns the number of lessons from {@code fromLesson} (inclusive) to {@code toLesson} (exclusive)
+     * that the student attended.
+     */
+    public int countAttended(int student, int fromLesson, int toLesson) {
+        return countBits(attendedBits, student, fromLesson, toLesson);
+    }
+
+    /**
+     * Returns the total participation score of the student in the lessons from {@code fromLesson} (inclusive)
+     * to {@code toLesson} (exclusive).
+     */
+    public long getTotalParticipation(int student, int fromLesson, int toLesson) {
+        checkRange(student, fromLesson, toLesson);
+        int offset = student * lessons.size();
+        long total = 0;
+        for (int i = offset + fromLesson; i < offset + toLesson; i++) {
+            total += participation[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the largest number of consecutive lessons, among the lessons that the student is in from
+     * {@code fromLesson} (inclusive) to {@code toLesson} (exclusive), that the student missed.
+     */
+    public int getLongestAbsenceStreak(int student, int fromLesson, int toLesson) {
+        checkRange(student, fromLesson, toLesson);
+        int offset = student * wordsPerStudent;
+        int longestStreak = 0;
+        int streak = 0;
+        for (int lesson = fromLesson; lesson < toLesson; lesson++) {
+            long mask = 1L << lesson;
+            int word = offset + (lesson >>> 6);
+            if ((enrolledBits[word] & mask) == 0) {
+                continue;
+            }
+            streak = (attendedBits[word] & mask) == 0 ? streak + 1 : 0;
+            longestStreak = Math.max(longestStreak, streak);
+        }
+        return longestStreak;
+    }
+
+    /**
+     * Returns the number of bits set in the row of {@code student} in {@code bits}, from {@code fromLesson}
+     * (inclusive) to {@code toLesson} (exclusive).
+     */
+    private int countBits(long[] bits, int student, int fromLesson, int toLesson) {
+        checkRange(student, fromLesson, toLesson);
+        if (fromLesson == toLesson) {
+            return 0;
+        }
+        int offset = student * wordsPerStudent;
+        int firstWord = fromLesson >>> 6;
+        int lastWord = (toLesson - 1) >>> 6;
+        long firstMask = -1L << fromLesson;
+        long lastMask = -1L >>> (Long.SIZE - 1 - ((toLesson - 1) & (Long.SIZE - 1)));
+        if (firstWord == lastWord) {
+            return Long.bitCount(bits[offset + firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(bits[offset + firstWord] & firstMask);
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            count += Long.bitCount(bits[offset + word]);
+        }
+        return count + Long.bitCount(bits[offset + lastWord] & lastMask);
+    }
+
+    private void checkRange(int student, int fromLesson, int toLesson) {
+        if (student < 0 || student >= students.size() || fromLesson < 0 || fromLesson > toLesson
+                || toLesson > lessons.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
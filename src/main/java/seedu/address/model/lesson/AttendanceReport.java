@@ -0,0 +1,227 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.address.model.course.Course;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.student.Student;
+
+/**
+ * The attendance and participation of some students over the lessons in a date range, summarised per student
+ * and per course.
+ */
+public class AttendanceReport {
+
+    /** Number of students summarised by one task before the work is no longer split. */
+    private static final int STUDENTS_PER_TASK = 64;
+
+    private final List<StudentSummary> studentSummaries;
+    private final List<CourseSummary> courseSummaries;
+    private final int lessonCount;
+
+    private AttendanceReport(List<StudentSummary> studentSummaries, List<CourseSummary> courseSummaries,
+            int lessonCount) {
+        this.studentSummaries = Collections.unmodifiableList(studentSummaries);
+        this.courseSummaries = Collections.unmodifiableList(courseSummaries);
+        this.lessonCount = lessonCount;
+    }
+
+    /**
+     * Summarises the students in {@code matrix} over the lessons from {@code from} to {@code to} (both inclusive,
+     * and unbounded if empty). Students are summarised in parallel.
+     * If {@code course} is given, only the students taking it and only that course are summarised.
+     */
+    public static AttendanceReport of(AttendanceMatrix matrix, Optional<Course> course, Optional<Date> from,
+            Optional<Date> to) {
+        requireNonNull(matrix);
+        Predicate<Student> studentFilter = student -> course.map(student.getCourses()::contains).orElse(true);
+        int fromLesson = from.map(matrix::getFirstLessonOnOrAfter).orElse(0);
+        int toLesson = Math.max(fromLesson, to.map(matrix::getFirstLessonAfter).orElse(matrix.getLessons().size()));
+
+        List<StudentSummary> studentSummaries = ForkJoinPool.commonPool().invoke(
+                new SummaryTask(matrix, studentFilter, fromLesson, toLesson, 0, matrix.getStudents().size()));
+
+        Map<Course, CourseSummary> courseSummaries = new TreeMap<>((c1, c2) -> c1.courseCode.compareTo(c2.courseCode));
+        for (StudentSummary summary : studentSummaries) {
+            for (Course studentCourse : summary.getStudent().getCourses()) {
+                if (course.isEmpty() || course.get().equals(studentCourse)) {
+                    courseSummaries.computeIfAbsent(studentCourse, CourseSummary::new).add(summary);
+                }
+            }
+        }
+        return new AttendanceReport(studentSummaries, new ArrayList<>(courseSummaries.values()),
+                toLesson - fromLesson);
+    }
+
+    public List<StudentSummary> getStudentSummaries() {
+        return studentSummaries;
+    }
+
+    public List<CourseSummary> getCourseSummaries() {
+        return courseSummaries;
+    }
+
+    /**
+     * Returns the number of lessons in the date range of the report.
+     */
+    public int getLessonCount() {
+        return lessonCount;
+    }
+
+    /**
+     * Returns {@code attended} as a percentage of {@code enrolled}, or 0 if {@code enrolled} is 0.
+     */
+    private static double toRate(int attended, int enrolled) {
+        return enrolled == 0 ? 0 : 100.0 * attended / enrolled;
+    }
+
+    /**
+     * The attendance and participation of one student.
+     */
+    public static class StudentSummary {
+        private final Student student;
+        private final int lessonsEnrolled;
+        private final int lessonsAttended;
+        private final long totalParticipation;
+        private final int longestAbsenceStreak;
+
+        /**
+         * Creates a summary of a student with the given statistics.
+         */
+        public StudentSummary(Student student, int lessonsEnrolled, int lessonsAttended, long totalParticipation,
+                int longestAbsenceStreak) {
+            this.student = requireNonNull(student);
+            this.lessonsEnrolled = lessonsEnrolled;
+            this.lessonsAttended = lessonsAttended;
+            this.totalParticipation = totalParticipation;
+            this.longestAbsenceStreak = longestAbsenceStreak;
+        }
+
+        public Student getStudent() {
+            return student;
+        }
+
+        public int getLessonsEnrolled() {
+            return lessonsEnrolled;
+        }
+
+        public int getLessonsAttended() {
+            return lessonsAttended;
+        }
+
+        public long getTotalParticipation() {
+            return totalParticipation;
+        }
+
+        public int getLongestAbsenceStreak() {
+            return longestAbsenceStreak;
+        }
+
+        /**
+         * Returns the percentage of the student's lessons that they attended, or 0 if they have no lessons.
+         */
+        public double getAttendanceRate() {
+            return toRate(lessonsAttended, lessonsEnrolled);
+        }
+    }
+
+    /**
+     * The combined attendance and participation of the students taking one course.
+     */
+    public static class CourseSummary {
+        private final Course course;
+        private int studentCount;
+        private int lessonsEnrolled;
+        private int lessonsAttended;
+        private long totalParticipation;
+
+        private CourseSummary(Course course) {
+            this.course = course;
+        }
+
+        private void add(StudentSummary summary) {
+            studentCount++;
+            lessonsEnrolled += summary.getLessonsEnrolled();
+            lessonsAttended += summary.getLessonsAttended();
+            totalParticipation += summary.getTotalParticipation();
+        }
+
+        public Course getCourse() {
+            return course;
+        }
+
+        public int getStudentCount() {
+            return studentCount;
+        }
+
+        public long getTotalParticipation() {
+            return totalParticipation;
+        }
+
+        /**
+         * Returns the percentage of the lessons of the course's students that they attended, or 0 if they have
+         * no lessons.
+         */
+        public double getAttendanceRate() {
+            return toRate(lessonsAttended, lessonsEnrolled);
+        }
+    }
+
+    /**
+     * Summarises a range of students of the matrix, splitting the range in half until it is small enough.
+     */
+    private static class SummaryTask extends RecursiveTask<List<StudentSummary>> {
+        private final AttendanceMatrix matrix;
+        private final Predicate<Student> studentFilter;
+        private final int fromLesson;
+        private final int toLesson;
+        private final int fromStudent;
+        private final int toStudent;
+
+        SummaryTask(AttendanceMatrix matrix, Predicate<Student> studentFilter, int fromLesson, int toLesson,
+                int fromStudent, int toStudent) {
+            this.matrix = matrix;
+            this.studentFilter = studentFilter;
+            this.fromLesson = fromLesson;
+            this.toLesson = toLesson;
+            this.fromStudent = fromStudent;
+            this.toStudent = toStudent;
+        }
+
+        @Override
+        protected List<StudentSummary> compute() {
+            if (toStudent - fromStudent <= STUDENTS_PER_TASK) {
+                List<StudentSummary> summaries = new ArrayList<>();
+                for (int i = fromStudent; i < toStudent; i++) {
+                    Student student = matrix.getStudents().get(i);
+                    if (studentFilter.test(student)) {
+                        summaries.add(new StudentSummary(student,
+                                matrix.countEnrolled(i, fromLesson, toLesson),
+                                matrix.countAttended(i, fromLesson, toLesson),
+                                matrix.getTotalParticipation(i, fromLesson, toLesson),
+                                matrix.getLongestAbsenceStreak(i, fromLesson, toLesson)));
+                    }
+                }
+                return summaries;
+            }
+            int middle = (fromStudent + toStudent) >>> 1;
+            SummaryTask left = new SummaryTask(matrix, studentFilter, fromLesson, toLesson, fromStudent, middle);
+            left.fork();
+            List<StudentSummary> summaries =
+                    new SummaryTask(matrix, studentFilter, fromLesson, toLesson, middle, toStudent).compute();
+            List<StudentSummary> leftSummaries = left.join();
+            leftSummaries.addAll(summaries);
+            return leftSummaries;
+        }
+    }
+}
@@ -4,12 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.datetime.Date;
 import seedu.address.model.datetime.Time;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
@@ -18,12 +22,18 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
 /**
  * Represents a Lesson in the system.
  * Guarantees: details are present and not null, field values are validated.
+ * <p>
+ * The student lesson info of a lesson may be loaded on first use (see {@link #deferred}), so that a long history of
+ * lessons read from storage does not need to be decoded until it is shown or changed.
  */
 public class Lesson {
 
     private final Date date;
     private final Time time;
-    private final List<StudentLessonInfo> studentLessonInfoList;
+    private final long epochMinute;
+    private volatile Map<Name, StudentLessonInfo> studentLessonInfoMap;
+    private Supplier<List<StudentLessonInfo>> studentLessonInfoLoader;
+    private Set<Name> deferredStudentNames;
 
     /**
      * Constructs a {@code Lesson} with the given arguments.
@@ -35,7 +45,8 @@ public class Lesson {
         requireAllNonNull(date, time);
         this.date = date;
         this.time = time;
-        this.studentLessonInfoList = new ArrayList<>();
+        this.epochMinute = date.toEpochMinute(time);
+        this.studentLessonInfoMap = new LinkedHashMap<>();
     }
 
     /**
@@ -45,18 +56,19 @@ public class Lesson {
      * @param time The time of the lesson.
      * @param studentLessonInfoList A list of student lesson info objects that may be empty but not null.
      * @throws NullPointerException if any of the arguments are null.
+     * @throws DuplicateStudentException if the list has more than one entry for the same student.
      */
     public Lesson(Date date, Time time, List<StudentLessonInfo> studentLessonInfoList) {
         requireAllNonNull(date, time, studentLessonInfoList);
-        studentLessonInfoList.forEach(Objects::requireNonNull);
         this.date = date;
         this.time = time;
-        this.studentLessonInfoList = new ArrayList<>(studentLessonInfoList);
+        this.epochMinute = date.toEpochMinute(time);
+        this.studentLessonInfoMap = toMap(studentLessonInfoList);
     }
 
     /**
      * Constructs a copy of the given lesson.
-     * Creates new instances of date, time, and the studentLessonInfo list (not the entries themselves)
+     * Creates new instances of date, time, and the studentLessonInfo map (not the entries themselves)
      * to reduce the risk of accidental mutation.
      *
      * @param lesson The lesson to copy.
@@ -65,7 +77,72 @@ public class Lesson {
         requireNonNull(lesson);
         this.date = new Date(lesson.getDate().getValue());
         this.time = new Time(lesson.getTime().getValue());
-        this.studentLessonInfoList = new ArrayList<>(lesson.getStudentLessonInfoList());
+        this.epochMinute = lesson.epochMinute;
+        this.studentLessonInfoMap = new LinkedHashMap<>(lesson.loadedInfoMap());
+    }
+
+    /**
+     * Returns a lesson with the given date and time, whose student lesson info is only loaded from
+     * {@code studentLessonInfoLoader} the first time it is needed.
+     * {@link #getPossibleStudentNames} returns {@code studentNames} until the student lesson info is loaded.
+     *
+     * @param date The date of the lesson.
+     * @param time The time of the lesson.
+     * @param studentNames The names of every student in the deferred info, and possibly others.
+     * @param studentLessonInfoLoader Supplies the student lesson info list. Called at most once.
+     * @throws NullPointerException if any of the arguments are null.
+     */
+    public static Lesson deferred(Date date, Time time, Set<Name> studentNames,
+            Supplier<List<StudentLessonInfo>> studentLessonInfoLoader) {
+        requireAllNonNull(date, time, studentNames, studentLessonInfoLoader);
+        Lesson lesson = new Lesson(date, time);
+        lesson.studentLessonInfoMap = null;
+        lesson.studentLessonInfoLoader = studentLessonInfoLoader;
+        lesson.deferredStudentNames = Set.copyOf(studentNames);
+        return lesson;
+    }
+
+    /**
+     * Returns the entries of {@code studentLessonInfoList} keyed by the name of their student, in the same order.
+     */
+    private static Map<Name, StudentLessonInfo> toMap(List<StudentLessonInfo> studentLessonInfoList) {
+        Map<Name, StudentLessonInfo> studentLessonInfoMap = new LinkedHashMap<>();
+        for (StudentLessonInfo studentLessonInfo : studentLessonInfoList) {
+            requireNonNull(studentLessonInfo);
+            if (studentLessonInfoMap.putIfAbsent(nameOf(studentLessonInfo), studentLessonInfo) != null) {
+                throw new DuplicateStudentException();
+            }
+        }
+        return studentLessonInfoMap;
+    }
+
+    private static Name nameOf(StudentLessonInfo studentLessonInfo) {
+        return studentLessonInfo.getStudent().getName();
+    }
+
+    /**
+     * Returns true if the student lesson info of this lesson has been loaded.
+     */
+    public boolean isStudentLessonInfoLoaded() {
+        return studentLessonInfoMap != null;
+    }
+
+    /**
+     * Returns the student lesson info keyed by student name, loading it first if it has been deferred.
+     */
+    private Map<Name, StudentLessonInfo> loadedInfoMap() {
+        Map<Name, StudentLessonInfo> loaded = studentLessonInfoMap;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (studentLessonInfoMap == null) {
+                studentLessonInfoMap = toMap(studentLessonInfoLoader.get());
+                studentLessonInfoLoader = null;
+                deferredStudentNames = null;
+            }
+            return studentLessonInfoMap;
+        }
     }
 
     /**
@@ -86,6 +163,14 @@ public class Lesson {
         return time;
     }
 
+    /**
+     * Returns the date and time of the lesson as the number of minutes since 1970-01-01 00:00.
+     * Lessons are ordered chronologically by this value, and two lessons are the same lesson if it is equal.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
     /**
      * Returns an immutable list of students attending the lesson.
      *
@@ -93,7 +178,7 @@ public class Lesson {
      */
     public List<Student> getStudents() {
         // IntelliJ says wrapping with Collections.unmodifiableList is redundant
-        return studentLessonInfoList.stream().map(StudentLessonInfo::getStudent).toList();
+        return loadedInfoMap().values().stream().map(StudentLessonInfo::getStudent).toList();
     }
 
     /**
@@ -102,7 +187,7 @@ public class Lesson {
      * @return A list of students attending the lesson.
      */
     public List<StudentLessonInfo> getStudentLessonInfoList() {
-        return Collections.unmodifiableList(studentLessonInfoList);
+        return List.copyOf(loadedInfoMap().values());
     }
 
     /**
@@ -113,8 +198,21 @@ public class Lesson {
      */
     public boolean hasStudent(Student student) {
         requireNonNull(student);
-        return studentLessonInfoList.stream()
-                .anyMatch(studentLessonInfo -> studentLessonInfo.isForStudent(student));
+        return loadedInfoMap().containsKey(student.getName());
+    }
+
+    /**
+     * Returns the names of the students that may be in the lesson.
+     * Unlike {@link #getStudents}, this does not load deferred student lesson info, so it may include students
+     * that are not in the lesson. It never leaves out a student that is.
+     */
+    public Set<Name> getPossibleStudentNames() {
+        synchronized (this) {
+            if (studentLessonInfoMap == null) {
+                return deferredStudentNames;
+            }
+        }
+        return Set.copyOf(studentLessonInfoMap.keySet());
     }
 
     /**
@@ -125,9 +223,11 @@ public class Lesson {
      * @throws StudentNotFoundException if the student is not in this lesson.
      */
     private StudentLessonInfo getStudentLessonInfo(Student student) throws StudentNotFoundException {
-        return studentLessonInfoList.stream()
-                .filter(studentLessonInfo -> studentLessonInfo.isForStudent(student))
-                .findAny().orElseThrow(StudentNotFoundException::new);
+        StudentLessonInfo studentLessonInfo = loadedInfoMap().get(student.getName());
+        if (studentLessonInfo == null) {
+            throw new StudentNotFoundException();
+        }
+        return studentLessonInfo;
     }
 
     /**
@@ -140,7 +240,7 @@ public class Lesson {
         if (hasStudent(student)) {
             throw new DuplicateStudentException();
         }
-        studentLessonInfoList.add(StudentLessonInfo.initialise(student));
+        loadedInfoMap().put(student.getName(), StudentLessonInfo.initialise(student));
     }
 
     /**
@@ -150,23 +250,35 @@ public class Lesson {
      */
     public void removeStudent(Student student) {
         requireNonNull(student);
-        studentLessonInfoList.removeIf(studentLessonInfo -> studentLessonInfo.isForStudent(student));
+        loadedInfoMap().remove(student.getName());
     }
 
     /**
-     * Sets a student in the lesson.
-     * Method works by removing a Student & Adding a new Student.
+     * Sets a student in the lesson, keeping their place in the lesson.
      * Attendance & Participation Score are transferred from target to editedStudent.
      *
-     * @param target The student to remove.
-     * @param editedStudent The student to add.
+     * @param target The student to replace.
+     * @param editedStudent The student to replace with.
      */
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
-        StudentLessonInfo oldEntry = getStudentLessonInfo(target);
-        studentLessonInfoList.remove(oldEntry);
-        StudentLessonInfo newEntry = oldEntry.setStudent(editedStudent);
-        studentLessonInfoList.add(newEntry);
+        StudentLessonInfo newEntry = getStudentLessonInfo(target).setStudent(editedStudent);
+        Map<Name, StudentLessonInfo> infoMap = loadedInfoMap();
+        if (target.isSameStudent(editedStudent)) {
+            infoMap.put(editedStudent.getName(), newEntry);
+            return;
+        }
+        if (infoMap.containsKey(editedStudent.getName())) {
+            throw new DuplicateStudentException();
+        }
+
+        // A renamed student has a new key, so the entries are re-inserted to keep the renamed student in place
+        List<StudentLessonInfo> entries = new ArrayList<>(infoMap.values());
+        infoMap.clear();
+        for (StudentLessonInfo entry : entries) {
+            StudentLessonInfo entryToPut = entry.isForStudent(target) ? newEntry : entry;
+            infoMap.put(nameOf(entryToPut), entryToPut);
+        }
     }
 
     /**
@@ -178,10 +290,8 @@ public class Lesson {
      */
     public void setAttendance(Student student, boolean attendance) throws StudentNotFoundException {
         requireNonNull(student);
-        StudentLessonInfo oldEntry = getStudentLessonInfo(student);
-        StudentLessonInfo newEntry = oldEntry.setAttendance(attendance);
-        int index = studentLessonInfoList.indexOf(oldEntry);
-        studentLessonInfoList.set(index, newEntry);
+        StudentLessonInfo newEntry = getStudentLessonInfo(student).setAttendance(attendance);
+        loadedInfoMap().put(student.getName(), newEntry);
     }
 
     /**
@@ -203,10 +313,8 @@ public class Lesson {
      */
     public void setParticipation(Student student, int participationScore) throws StudentNotFoundException {
         requireNonNull(student);
-        StudentLessonInfo oldEntry = getStudentLessonInfo(student);
-        studentLessonInfoList.remove(oldEntry);
-        StudentLessonInfo newEntry = oldEntry.setParticipationScore(participationScore);
-        studentLessonInfoList.add(newEntry);
+        StudentLessonInfo newEntry = getStudentLessonInfo(student).setParticipationScore(participationScore);
+        loadedInfoMap().put(student.getName(), newEntry);
     }
 
     /**
@@ -239,18 +347,18 @@ public class Lesson {
         Lesson otherLesson = (Lesson) other;
         return date.equals(otherLesson.date)
                 && time.equals(otherLesson.time)
-                && studentLessonInfoList.equals(otherLesson.studentLessonInfoList);
+                && getStudentLessonInfoList().equals(otherLesson.getStudentLessonInfoList());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, time, studentLessonInfoList);
+        return Objects.hash(date, time, getStudentLessonInfoList());
     }
 
     @Override
     public String toString() {
         return String.format("Lesson[date=%s, time=%s, studentLessonInfoList=%s]",
-                date, time, studentLessonInfoList);
+                date, time, getStudentLessonInfoList());
     }
 
     /**
@@ -1,8 +1,11 @@
 package seedu.address.model.lesson;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
+import static seedu.address.commons.util.CollectionUtil.lowerBound;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -11,15 +14,21 @@ import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
  * A lesson is considered unique by comparing using {@code Lesson#isSameLesson(Lesson)}.
+ * The list is kept in chronological order, so lessons are found by binary search on their date and time.
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
+    private static final Time START_OF_DAY = new Time("00:00");
+    private static final Time END_OF_DAY = new Time("23:59");
+
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
@@ -29,7 +38,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        int index = lowerBound(internalList, toCheck.getEpochMinute(), Lesson::getEpochMinute);
+        return index < internalList.size() && internalList.get(index).isSameLesson(toCheck);
     }
 
     /**
@@ -41,7 +51,36 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalList.add(toAdd);
+        internalList.add(lowerBound(internalList, toAdd.getEpochMinute(), Lesson::getEpochMinute), toAdd);
+    }
+
+    /**
+     * Adds {@code lessons} to the list with a single change to the list.
+     * They are sorted once and merged into the list, instead of being inserted one at a time.
+     * {@code lessons} must not contain duplicate lessons or lessons already in the list.
+     */
+    public void addAll(List<Lesson> lessons) {
+        requireAllNonNull(lessons);
+        List<Lesson> duplicates = findDuplicates(lessons, UniqueLessonList::identityOf);
+        lessons.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateLessonException(duplicates);
+        }
+
+        List<Lesson> sorted = new ArrayList<>(lessons);
+        sorted.sort(Comparator.comparingLong(Lesson::getEpochMinute));
+        List<Lesson> merged = new ArrayList<>(internalList.size() + sorted.size());
+        int i = 0;
+        int j = 0;
+        while (i < internalList.size() || j < sorted.size()) {
+            if (j == sorted.size() || (i < internalList.size()
+                    && internalList.get(i).getEpochMinute() < sorted.get(j).getEpochMinute())) {
+                merged.add(internalList.get(i++));
+            } else {
+                merged.add(sorted.get(j++));
+            }
+        }
+        internalList.setAll(merged);
     }
 
     /**
@@ -52,7 +91,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -61,7 +100,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        // Replace in place if the edited lesson still belongs at the same position, otherwise move it there
+        int newIndex = lowerBound(internalList, editedLesson.getEpochMinute(), Lesson::getEpochMinute);
+        if (newIndex == index || newIndex == index + 1) {
+            internalList.set(index, editedLesson);
+        } else {
+            internalList.remove(index);
+            internalList.add(newIndex > index ? newIndex - 1 : newIndex, editedLesson);
+        }
     }
 
     /**
@@ -70,9 +116,11 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        internalList.remove(index);
     }
 
     public void setLessons(UniqueLessonList replacement) {
@@ -86,11 +134,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        List<Lesson> duplicates = findDuplicates(lessons, UniqueLessonList::identityOf);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateLessonException(duplicates);
         }
 
-        internalList.setAll(lessons);
+        List<Lesson> sorted = new ArrayList<>(lessons);
+        sorted.sort(Comparator.comparingLong(Lesson::getEpochMinute));
+        internalList.setAll(sorted);
     }
 
     /**
@@ -118,17 +169,18 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns the index of {@code lesson} in the list, or -1 if it is not in the list.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int indexOf(Lesson lesson) {
+        int index = lowerBound(internalList, lesson.getEpochMinute(), Lesson::getEpochMinute);
+        return index < internalList.size() && internalList.get(index).equals(lesson) ? index : -1;
+    }
+
+    /**
+     * Returns the identity of {@code lesson}, consistent with {@code Lesson#isSameLesson(Lesson)}.
+     */
+    private static List<Object> identityOf(Lesson lesson) {
+        return List.of(lesson.getDate(), lesson.getTime());
     }
 
     /**
@@ -140,13 +192,13 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Sorts the list of lessons by date first, and then by time if the dates are the same.
-     * This method ensures that the lessons are ordered chronologically within the list.
-     * The list is sorted in-place, meaning the order of elements in the internal list is modified.
+     * Returns the lessons from {@code start} to {@code end}, both inclusive, in chronological order.
+     * Returns an empty list if {@code end} is before {@code start}.
      */
-    public void sort() {
-        internalList.sort(Comparator.comparing(Lesson::getDate)
-                                     .thenComparing(Lesson::getTime));
+    public List<Lesson> getLessonsBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        int fromIndex = lowerBound(internalList, start.toEpochMinute(START_OF_DAY), Lesson::getEpochMinute);
+        int toIndex = lowerBound(internalList, end.toEpochMinute(END_OF_DAY) + 1, Lesson::getEpochMinute);
+        return List.copyOf(internalList.subList(fromIndex, Math.max(fromIndex, toIndex)));
     }
-
 }
@@ -1,5 +1,10 @@
 package seedu.address.model.lesson.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.lesson.Lesson;
+
 /**
  * Signals that the operation will result in duplicate Lessons
  * (Lessons are considered duplicates if they have the same date and time).
@@ -8,4 +13,13 @@ public class DuplicateLessonException extends RuntimeException {
     public DuplicateLessonException() {
         super("Operation would result in duplicate lessons");
     }
+
+    /**
+     * Creates an exception listing the offending {@code duplicates}.
+     */
+    public DuplicateLessonException(List<Lesson> duplicates) {
+        super("Operation would result in duplicate lessons: " + duplicates.stream()
+                .map(lesson -> lesson.getDate() + " " + lesson.getTime())
+                .collect(Collectors.joining(", ")));
+    }
 }
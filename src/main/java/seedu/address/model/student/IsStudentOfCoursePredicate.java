@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.course.Course;
 
 /**
  * Tests that a Student is taking any of the given Course(s).
@@ -26,11 +25,14 @@ public class IsStudentOfCoursePredicate implements Predicate<Student> {
      */
     @Override
     public boolean test(Student student) {
-        return courses.stream().anyMatch(c -> getCourseStringList(student).contains(c));
+        return student.getCourses().stream().anyMatch(course -> courses.contains(course.courseCode));
     }
 
-    private List<String> getCourseStringList(Student student) {
-        return student.getCourses().stream().map(Course::toString).toList();
+    /**
+     * Returns the course codes to match, in upper case.
+     */
+    public List<String> getCourseCodes() {
+        return courses;
     }
 
     @Override
@@ -0,0 +1,155 @@
+package seedu.address.model.student;
+
+import static seedu.address.commons.util.StringUtil.getEditDistance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A BK-tree that finds the students filed under keys within an edit distance of a query, without computing the
+ * distance to every key.
+ * <p>
+ * Every child of a node is at a different edit distance from the node's key. By the triangle inequality, keys
+ * within {@code d} of the query can only be under children whose distance to the node is within {@code d} of the
+ * query's distance to the node, so the rest of the tree is skipped. Removed students leave their node in place,
+ * and the tree is rebuilt once most of its nodes are empty.
+ */
+class NameBkTree {
+
+    private Node root;
+    private int nodeCount;
+    private int emptyNodeCount;
+
+    /**
+     * Files {@code student} under {@code key}.
+     */
+    void add(String key, Student student) {
+        if (root == null) {
+            root = new Node(key);
+            nodeCount++;
+            emptyNodeCount++;
+        }
+        Node node = root;
+        while (true) {
+            int distance = getEditDistance(key, node.key);
+            if (distance == 0) {
+                if (node.students.isEmpty()) {
+                    emptyNodeCount--;
+                }
+                node.students.add(student);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(key);
+                child.students.add(student);
+                node.children.put(distance, child);
+                nodeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code student}, which must be filed under {@code key}, from the tree.
+     */
+    void remove(String key, Student student) {
+        Node node = root;
+        int distance;
+        while ((distance = getEditDistance(key, node.key)) != 0) {
+            node = node.children.get(distance);
+        }
+        node.students.remove(student);
+        if (node.students.isEmpty()) {
+            emptyNodeCount++;
+            if (emptyNodeCount * 2 > nodeCount) {
+                rebuild();
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the tree.
+     */
+    void clear() {
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+    }
+
+    /**
+     * Returns the students filed under keys within {@code maxDistance} of {@code query}, grouped by the distance
+     * of their key from {@code query}: the students at distance {@code d} are in the element at index {@code d}.
+     */
+    List<Set<Student>> search(String query, int maxDistance) {
+        List<Set<Student>> results = new ArrayList<>();
+        for (int i = 0; i <= maxDistance; i++) {
+            results.add(newIdentitySet());
+        }
+        if (root == null) {
+            return results;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = getEditDistance(query, node.key);
+            if (distance <= maxDistance) {
+                results.get(distance).addAll(node.students);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Builds the tree again from the students in it, dropping empty nodes.
+     */
+    private void rebuild() {
+        List<Node> nodes = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            if (!node.students.isEmpty()) {
+                nodes.add(node);
+            }
+            node.children.values().forEach(nodesToVisit::push);
+        }
+
+        clear();
+        for (Node node : nodes) {
+            node.students.forEach(student -> add(node.key, student));
+        }
+    }
+
+    private static Set<Student> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A key of the tree and the students filed under it.
+     */
+    private static class Node {
+        private final String key;
+        private final Set<Student> students = newIdentitySet();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package seedu.address.model.student;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a name containing it, ignoring case. A keyword starting with {@code FUZZY_MARKER} instead
+ * matches a name with a word that is at most a few edits away from the rest of the keyword, ignoring case.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
+    public static final String FUZZY_MARKER = "~";
+
+    /** Largest number of edits between the word of a fuzzy keyword and a word of a name that it matches. */
+    public static final int MAX_FUZZY_DISTANCE = 2;
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +27,37 @@ public class NameContainsKeywordsPredicate implements Predicate<Student> {
     @Override
     public boolean test(Student student) {
         String lowercaseName = student.getName().fullName.toLowerCase();
-        return keywords.stream()
-                .anyMatch(keyword -> lowercaseName.contains(keyword.toLowerCase()));
+        return keywords.stream().anyMatch(keyword -> isFuzzy(keyword)
+                ? Arrays.stream(lowercaseName.split("\\s+")).anyMatch(word -> StringUtil.getEditDistance(word,
+                        getFuzzyWord(keyword)) <= getMaxFuzzyDistance(keyword))
+                : lowercaseName.contains(keyword.toLowerCase()));
+    }
+
+    /**
+     * Returns true if {@code keyword} is a fuzzy keyword.
+     */
+    public static boolean isFuzzy(String keyword) {
+        return keyword.startsWith(FUZZY_MARKER);
+    }
+
+    /**
+     * Returns the lower-cased word that the fuzzy {@code keyword} matches words close to.
+     */
+    public static String getFuzzyWord(String keyword) {
+        return keyword.substring(FUZZY_MARKER.length()).toLowerCase();
+    }
+
+    /**
+     * Returns the largest number of edits between the word of the fuzzy {@code keyword} and a word it matches.
+     * This is one edit for every three characters of the word, up to {@code MAX_FUZZY_DISTANCE}, so that short
+     * words are not matched by unrelated ones.
+     */
+    public static int getMaxFuzzyDistance(String keyword) {
+        return Math.min(MAX_FUZZY_DISTANCE, getFuzzyWord(keyword).length() / 3);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
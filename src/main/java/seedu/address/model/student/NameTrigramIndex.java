@@ -0,0 +1,99 @@
+package seedu.address.model.student;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the students whose names contain a keyword, ignoring case, without checking the name of every student.
+ * <p>
+ * Each student is filed under every trigram (three consecutive characters) of their lower-cased name. A keyword of
+ * three or more characters can only be contained in names that have all of its trigrams, so only the students filed
+ * under its rarest trigram need to be checked. Shorter keywords are checked against every student. Names are
+ * lower-cased once, when the student is added, so checking a student does not allocate.
+ */
+class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Student, String> lowerCaseNames = new IdentityHashMap<>();
+    private final Map<Long, Set<Student>> studentsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student) {
+        String lowerCaseName = student.getName().fullName.toLowerCase();
+        lowerCaseNames.put(student, lowerCaseName);
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseName.length(); i++) {
+            studentsByTrigram.computeIfAbsent(trigramAt(lowerCaseName, i), trigram -> newIdentitySet()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student}, which must be in the index, from the index.
+     */
+    void remove(Student student) {
+        String lowerCaseName = lowerCaseNames.remove(student);
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseName.length(); i++) {
+            long trigram = trigramAt(lowerCaseName, i);
+            Set<Student> students = studentsByTrigram.get(trigram);
+            students.remove(student);
+            if (students.isEmpty()) {
+                studentsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        lowerCaseNames.clear();
+        studentsByTrigram.clear();
+    }
+
+    /**
+     * Adds the students whose names contain {@code keyword}, ignoring case, to {@code results}.
+     */
+    void addStudentsWithNameContaining(String keyword, Set<Student> results) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            lowerCaseNames.forEach((student, name) -> {
+                if (name.contains(lowerCaseKeyword)) {
+                    results.add(student);
+                }
+            });
+            return;
+        }
+
+        Set<Student> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseKeyword.length(); i++) {
+            Set<Student> students = studentsByTrigram.get(trigramAt(lowerCaseKeyword, i));
+            if (students == null) {
+                return;
+            }
+            if (candidates == null || students.size() < candidates.size()) {
+                candidates = students;
+            }
+        }
+        for (Student candidate : candidates) {
+            if (lowerCaseNames.get(candidate).contains(lowerCaseKeyword)) {
+                results.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns the three characters of {@code text} starting at {@code index}, packed into a long.
+     */
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private static Set<Student> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
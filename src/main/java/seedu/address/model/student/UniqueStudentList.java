@@ -1,13 +1,25 @@
 package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.course.Course;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 
@@ -19,6 +31,14 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * the UniqueStudentList. However, the removal of a student uses Student#equals(Object)
  * so as to ensure that the student with exactly the same fields will be removed.
  *
+ * An index of students keyed by {@code Name} is kept in sync with the list so that identity checks
+ * do not need to scan the whole list, as are an index of the students taking each course and a
+ * {@link NameTrigramIndex} for finding students by part of their name, and {@link NameBkTree}s of full names and
+ * of the words in names for finding students by names with typos.
+ *
+ * The indexes are updated before the list itself, so that listeners of the list, such as a {@code FilteredList},
+ * can already look up the changed students in them.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -28,13 +48,76 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Student> studentsByName = new HashMap<>();
+    private final Map<String, Set<Student>> studentsByCourse = new HashMap<>();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final NameBkTree fullNameTree = new NameBkTree();
+    private final NameBkTree nameWordTree = new NameBkTree();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the student in the list with the given {@code name}, if there is one.
+     */
+    public Optional<Student> find(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(studentsByName.get(name));
+    }
+
+    /**
+     * Returns the students in the list taking any of the courses with the given {@code courseCodes}, which must be
+     * in upper case. The returned set compares students by identity, and is a copy.
+     */
+    public Set<Student> getStudentsTakingAnyOf(Collection<String> courseCodes) {
+        requireAllNonNull(courseCodes);
+        Set<Student> students = newIdentitySet();
+        for (String courseCode : courseCodes) {
+            students.addAll(studentsByCourse.getOrDefault(courseCode, Set.of()));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students in the list whose names contain any of the {@code keywords}, ignoring case.
+     * The returned set compares students by identity, and is a copy.
+     */
+    public Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Student> students = newIdentitySet();
+        keywords.forEach(keyword -> nameIndex.addStudentsWithNameContaining(keyword, students));
+        return students;
+    }
+
+    /**
+     * Returns the students in the list whose full names are within {@code maxDistance} edits of {@code name},
+     * ignoring case, closest first. Students as close as each other are ordered by name.
+     */
+    public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+        requireNonNull(name);
+        List<Student> students = new ArrayList<>();
+        for (Set<Student> studentsAtDistance : fullNameTree.search(name.toLowerCase(), maxDistance)) {
+            studentsAtDistance.stream()
+                    .sorted(Comparator.comparing(student -> student.getName().fullName))
+                    .forEach(students::add);
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students in the list with a word in their name within {@code maxDistance} edits of {@code word},
+     * ignoring case. The returned set compares students by identity, and is a copy.
+     */
+    public Set<Student> getStudentsWithNameWordNear(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<Student> students = newIdentitySet();
+        nameWordTree.search(word.toLowerCase(), maxDistance).forEach(students::addAll);
+        return students;
     }
 
     /**
@@ -46,9 +129,26 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code students} to the end of the list with a single change to the list.
+     * {@code students} must not contain duplicate students or students already in the list.
+     */
+    public void addAll(List<Student> students) {
+        requireAllNonNull(students);
+        List<Student> duplicates = findDuplicates(students, Student::getName);
+        students.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateStudentException(duplicates);
+        }
+
+        students.forEach(this::index);
+        internalList.addAll(students);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -66,6 +166,8 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        unindex(internalList.get(index));
+        index(editedStudent);
         internalList.set(index, editedStudent);
     }
 
@@ -75,13 +177,17 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -91,13 +197,71 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        List<Student> duplicates = findDuplicates(students, Student::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateStudentException(duplicates);
         }
 
+        rebuildIndex(students);
         internalList.setAll(students);
     }
 
+    /**
+     * Repopulates the indexes with {@code students}, which are to replace the contents of the list.
+     */
+    private void rebuildIndex(List<Student> students) {
+        studentsByName.clear();
+        studentsByCourse.clear();
+        nameIndex.clear();
+        fullNameTree.clear();
+        nameWordTree.clear();
+        students.forEach(this::index);
+    }
+
+    /**
+     * Adds {@code student}, which is in the list, to the indexes.
+     */
+    private void index(Student student) {
+        studentsByName.put(student.getName(), student);
+        nameIndex.add(student);
+        String lowerCaseName = student.getName().fullName.toLowerCase();
+        fullNameTree.add(lowerCaseName, student);
+        for (String word : getDistinctWords(lowerCaseName)) {
+            nameWordTree.add(word, student);
+        }
+        for (Course course : student.getCourses()) {
+            studentsByCourse.computeIfAbsent(course.courseCode, code -> newIdentitySet()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student}, which was in the list, from the indexes.
+     */
+    private void unindex(Student student) {
+        studentsByName.remove(student.getName());
+        nameIndex.remove(student);
+        String lowerCaseName = student.getName().fullName.toLowerCase();
+        fullNameTree.remove(lowerCaseName, student);
+        for (String word : getDistinctWords(lowerCaseName)) {
+            nameWordTree.remove(word, student);
+        }
+        for (Course course : student.getCourses()) {
+            Set<Student> students = studentsByCourse.get(course.courseCode);
+            students.remove(student);
+            if (students.isEmpty()) {
+                studentsByCourse.remove(course.courseCode);
+            }
+        }
+    }
+
+    private static Set<String> getDistinctWords(String name) {
+        return Set.copyOf(Arrays.asList(name.trim().split("\\s+")));
+    }
+
+    private static Set<Student> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,18 +298,4 @@ public class UniqueStudentList implements Iterable<Student> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
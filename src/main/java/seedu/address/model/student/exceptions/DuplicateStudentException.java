@@ -1,5 +1,10 @@
 package seedu.address.model.student.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.student.Student;
+
 /**
  * Signals that the operation will result in duplicate Students
  * (Students are considered duplicates if they have the same identity).
@@ -8,4 +13,13 @@ public class DuplicateStudentException extends RuntimeException {
     public DuplicateStudentException() {
         super("Operation would result in duplicate students");
     }
+
+    /**
+     * Creates an exception listing the offending {@code duplicates}.
+     */
+    public DuplicateStudentException(List<Student> duplicates) {
+        super("Operation would result in duplicate students: " + duplicates.stream()
+                .map(student -> student.getName().fullName)
+                .collect(Collectors.joining(", ")));
+    }
 }
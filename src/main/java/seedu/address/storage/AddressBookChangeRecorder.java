@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * Records the changes made to an address book as they are made, in the form kept by the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * Only the entries added by a change are converted, so recording a change takes time proportional to the size of
+ * the change rather than to the size of the address book.
+ */
+class AddressBookChangeRecorder {
+
+    private final List<JsonAdaptedListChange<JsonAdaptedStudent>> students = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedConsultation>> consults = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedLesson>> lessons = new ArrayList<>();
+
+    private final ListChangeListener<Student> studentListener = change ->
+            record(change, students, JsonAdaptedAddressBookChange::identityOf, JsonAdaptedStudent::new);
+    private final ListChangeListener<Consultation> consultListener = change ->
+            record(change, consults, JsonAdaptedAddressBookChange::identityOf, JsonAdaptedConsultation::new);
+    private final ListChangeListener<Lesson> lessonListener = change ->
+            record(change, lessons, JsonAdaptedAddressBookChange::identityOf, JsonAdaptedLesson::new);
+
+    private ReadOnlyAddressBook addressBook;
+    private boolean isReordered;
+
+    /**
+     * Starts recording the changes made to {@code addressBook} from now on.
+     * Changes recorded so far, to {@code addressBook} or to the address book recorded before it, are discarded.
+     */
+    public void record(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != this.addressBook) {
+            if (this.addressBook != null) {
+                this.addressBook.getStudentList().removeListener(studentListener);
+                this.addressBook.getConsultList().removeListener(consultListener);
+                this.addressBook.getLessonList().removeListener(lessonListener);
+            }
+            addressBook.getStudentList().addListener(studentListener);
+            addressBook.getConsultList().addListener(consultListener);
+            addressBook.getLessonList().addListener(lessonListener);
+            this.addressBook = addressBook;
+        }
+        takeChanges();
+        isReordered = false;
+    }
+
+    /**
+     * Returns true if the changes made to {@code addressBook} are being recorded.
+     */
+    public boolean isRecording(ReadOnlyAddressBook addressBook) {
+        return addressBook == this.addressBook;
+    }
+
+    /**
+     * Returns true if entries were reordered since recording started, which the journal cannot record.
+     */
+    public boolean isReordered() {
+        return isReordered;
+    }
+
+    /**
+     * Returns the changes recorded since the last call, or since recording started.
+     */
+    public JsonAdaptedAddressBookChange takeChanges() {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange(students, consults, lessons);
+        students.clear();
+        consults.clear();
+        lessons.clear();
+        return change;
+    }
+
+    /**
+     * Records the sub-changes of {@code change} in {@code changes}.
+     */
+    private <T, A> void record(ListChangeListener.Change<? extends T> change, List<JsonAdaptedListChange<A>> changes,
+            Function<T, String> identityOf, Function<T, A> adapter) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isReordered = true;
+            } else if (!change.wasUpdated()) {
+                recordReplacement(change.getFrom(), change.getRemoved(), change.getAddedSubList(), changes,
+                        identityOf, adapter);
+            }
+        }
+    }
+
+    /**
+     * Records the replacement of {@code removed} by {@code added}, starting at index {@code from}, in {@code changes}.
+     * Entries found in both lists were only carried along by a bulk update of the list, such as merging new lessons
+     * into the lesson list, so only the entries around them are recorded.
+     */
+    private <T, A> void recordReplacement(int from, List<? extends T> removed, List<? extends T> added,
+            List<JsonAdaptedListChange<A>> changes, Function<T, String> identityOf, Function<T, A> adapter) {
+        Set<T> removedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedEntries.addAll(removed);
+        Set<T> addedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        addedEntries.addAll(added);
+
+        int runFrom = from;
+        List<String> removedRun = new ArrayList<>();
+        List<A> addedRun = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < removed.size() || j < added.size()) {
+            if (i < removed.size() && !addedEntries.contains(removed.get(i))) {
+                removedRun.add(identityOf.apply(removed.get(i++)));
+            } else if (j < added.size() && !removedEntries.contains(added.get(j))) {
+                addedRun.add(adapter.apply(added.get(j++)));
+            } else if (i < removed.size() && j < added.size() && removed.get(i) == added.get(j)) {
+                if (!removedRun.isEmpty() || !addedRun.isEmpty()) {
+                    changes.add(new JsonAdaptedListChange<>(runFrom, removedRun, addedRun));
+                }
+                runFrom += addedRun.size() + 1;
+                removedRun = new ArrayList<>();
+                addedRun = new ArrayList<>();
+                i++;
+                j++;
+            } else {
+                isReordered = true;
+                return;
+            }
+        }
+        if (!removedRun.isEmpty() || !addedRun.isEmpty()) {
+            changes.add(new JsonAdaptedListChange<>(runFrom, removedRun, addedRun));
+        }
+    }
+}
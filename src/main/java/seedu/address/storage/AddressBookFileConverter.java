@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the supported {@link DataFileFormat}s.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    private AddressBookFileConverter() {} // prevents instantiation
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file at {@code filePath} in the given {@code format}.
+     * The data file is kept as a snapshot in {@code format}, followed by a journal of the changes made since.
+     */
+    public static AddressBookStorage createStorage(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        switch (format) {
+        case BINARY:
+            return new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        default:
+            return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} in the given {@code format} for the data file at {@code filePath}.
+     * The data file at {@code filePath} is used as it is, unless its file extension is that of another format, in
+     * which case the extension is replaced by that of {@code format}. <br>
+     * If that data file does not exist yet, but a data file with the same name in another format does, the other
+     * data file is converted into {@code format} first. The other data file is left in place.
+     */
+    public static AddressBookStorage openStorage(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        Path formatFilePath = hasOtherFileExtension(filePath, format) ? withFileExtension(filePath, format) : filePath;
+        AddressBookStorage storage = createStorage(formatFilePath, format);
+        if (Files.exists(formatFilePath)) {
+            return storage;
+        }
+
+        for (DataFileFormat otherFormat : DataFileFormat.values()) {
+            Path otherFilePath = withFileExtension(filePath, otherFormat);
+            if (otherFormat == format || !Files.exists(otherFilePath)) {
+                continue;
+            }
+            try {
+                convert(createStorage(otherFilePath, otherFormat), storage);
+                break;
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file at " + otherFilePath + " could not be converted to " + format + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return storage;
+    }
+
+    /**
+     * Returns true if {@code filePath} has the file extension of a format other than {@code format}.
+     */
+    private static boolean hasOtherFileExtension(Path filePath, DataFileFormat format) {
+        String fileName = filePath.getFileName().toString();
+        for (DataFileFormat otherFormat : DataFileFormat.values()) {
+            if (otherFormat != format && fileName.endsWith(otherFormat.getFileExtension())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by that of {@code format}.
+     */
+    public static Path withFileExtension(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + format.getFileExtension());
+    }
+
+    /**
+     * Copies the address book in {@code source} into {@code target}, replacing any data already in {@code target}.
+     *
+     * @return true if {@code source} had an address book to copy.
+     * @throws DataLoadingException if the address book in {@code source} could not be read.
+     * @throws IOException if the address book could not be written to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        logger.info("Converting data file " + source.getAddressBookFilePath() + " into "
+                + target.getAddressBookFilePath());
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * An unmodifiable copy of the contents of an address book at the time it was saved.
+ * The students, consultations and lessons themselves are shared with the address book, not copied. Lessons and
+ * consultations are mutable, but commands only modify copies of them before replacing them in the address book, so
+ * the shared entries keep their contents. The only change to a shared lesson is the loading of a deferred roster
+ * (see {@link seedu.address.model.lesson.Lesson#deferred}), which is synchronized and does not change what the
+ * lesson holds.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Student> students;
+    private final ObservableList<Consultation> consults;
+    private final ObservableList<Lesson> lessons;
+    private final long version;
+
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        students = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getStudentList()));
+        consults = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getConsultList()));
+        lessons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getLessonList()));
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public ObservableList<Consultation> getConsultList() {
+        return consults;
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return lessons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -42,4 +42,21 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Prepares a save of {@code addressBook} to {@code filePath} that can be written later on another thread,
+     * while {@code addressBook} keeps changing.
+     * By default, the prepared save writes a copy of {@code addressBook} as it is now.
+     */
+    default PreparedSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        return () -> saveAddressBook(snapshot, filePath);
+    }
+
+    /**
+     * Notifies this storage that {@code addressBook} holds the data just read from {@code filePath}, so that later
+     * saves of {@code addressBook} to {@code filePath} need only write the changes made to it since.
+     * Does nothing by default.
+     */
+    default void trackAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {}
+
 }
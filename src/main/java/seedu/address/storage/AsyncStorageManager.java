@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code StorageManager} that saves AddressBook data on a background writer thread.
+ * Saving only prepares the save of the address book, so callers are not blocked while the data is written.
+ * Saves that are prepared while earlier ones are still waiting to be written are combined with them, so a burst of
+ * saves results in a single write.
+ * A write that fails is reported to the write failure handler as soon as it fails, and is written again, together
+ * with any newer saves, by the next save or flush.
+ */
+public class AsyncStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Consumer<IOException> writeFailureHandler;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private PreparedSave pendingSave;
+    private boolean isWriteScheduled;
+    /** Cause of the last write, if it failed. */
+    private IOException writeFailure;
+
+    /**
+     * Creates an {@code AsyncStorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     *
+     * @param writeFailureHandler Called on the writer thread with the cause of every failed write.
+     */
+    public AsyncStorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            Consumer<IOException> writeFailureHandler) {
+        super(addressBookStorage, userPrefsStorage);
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook}, as it is now, to be written to {@code filePath}.
+     * Failed writes are reported to the write failure handler instead of being thrown.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        PreparedSave save = prepareSave(addressBook, filePath);
+        synchronized (lock) {
+            pendingSave = pendingSave == null ? save : pendingSave.andThen(save);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePending);
+            }
+        }
+    }
+
+    /**
+     * Blocks until all scheduled saves have been written.
+     * A save whose write failed is written again.
+     *
+     * @throws IOException if the last save could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            if (pendingSave != null && !isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePending);
+            }
+        }
+
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new AssertionError("The flush task does not throw", ee);
+        }
+
+        synchronized (lock) {
+            if (pendingSave != null && writeFailure != null) {
+                throw writeFailure;
+            }
+        }
+    }
+
+    /**
+     * Writes the scheduled saves until no save is waiting to be written.
+     * A save whose write failed is kept for the next save or flush, unless a newer save is already waiting,
+     * in which case both are written again at once.
+     */
+    private void writePending() {
+        while (true) {
+            PreparedSave save;
+            synchronized (lock) {
+                if (pendingSave == null) {
+                    isWriteScheduled = false;
+                    return;
+                }
+                save = pendingSave;
+                pendingSave = null;
+            }
+
+            try {
+                save.write();
+                synchronized (lock) {
+                    writeFailure = null;
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to write data file: " + ioe);
+                boolean isNewerSavePending;
+                synchronized (lock) {
+                    writeFailure = ioe;
+                    isNewerSavePending = pendingSave != null;
+                    pendingSave = isNewerSavePending ? save.andThen(pendingSave) : save;
+                    if (!isNewerSavePending) {
+                        isWriteScheduled = false;
+                    }
+                }
+                writeFailureHandler.accept(ioe);
+                if (!isNewerSavePending) {
+                    return;
+                }
+            }
+        }
+    }
+}
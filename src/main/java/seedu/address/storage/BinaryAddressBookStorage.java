@@ -0,0 +1,470 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.course.Course;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.StudentLessonInfo;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header holding {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a table of
+ * all the strings in the address book, so that names, courses, dates and times are stored once no matter how often
+ * they are referred to. The students, consultations and lessons follow as three sections of length-prefixed records
+ * that refer to strings by their index in the table. Each record is validated the same way as the JSON data file.
+ * <p>
+ * Lessons make up most of a long-running data file, so the lesson section is laid out to be loaded lazily. Each
+ * lesson record starts with its date and time, followed by a checksum and the roster of students, which spells out
+ * student names instead of referring to the string table. Reading only decodes the date and time of each lesson and
+ * keeps the lesson section in memory as one buffer; the roster of a lesson is decoded the first time it is used.
+ * Rosters that are never used are copied to the new file unchanged when the address book is saved.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The bytes "TAHB", which identify a binary address book file. */
+    public static final int MAGIC_NUMBER = 0x54414842;
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private Path filePath;
+
+    /** Rosters of the lessons last read or written whose student lesson info has not been loaded yet. */
+    private Map<Lesson, ByteBuffer> deferredRosters = new IdentityHashMap<>();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            Map<Lesson, ByteBuffer> rosters = new IdentityHashMap<>();
+            AddressBook addressBook = read(in, Files.size(filePath), rosters);
+            setDeferredRosters(rosters);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        // Write into a temporary file first, so that a failed save does not leave a partially written file
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+            setDeferredRosters(write(addressBook, out, getDeferredRosters()));
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private synchronized Map<Lesson, ByteBuffer> getDeferredRosters() {
+        return deferredRosters;
+    }
+
+    private synchronized void setDeferredRosters(Map<Lesson, ByteBuffer> deferredRosters) {
+        this.deferredRosters = deferredRosters;
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     * Lessons found in {@code deferredRosters} that are still not loaded are written with their roster unchanged.
+     *
+     * @return The rosters from {@code deferredRosters} that were written unchanged.
+     */
+    private static Map<Lesson, ByteBuffer> write(ReadOnlyAddressBook addressBook, DataOutputStream out,
+            Map<Lesson, ByteBuffer> deferredRosters) throws IOException {
+        Map<String, Integer> stringTable = buildStringTable(addressBook);
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        out.writeInt(addressBook.getStudentList().size());
+        for (Student student : addressBook.getStudentList()) {
+            record.writeInt(stringTable.get(student.getName().fullName));
+            record.writeInt(stringTable.get(student.getPhone().value));
+            record.writeInt(stringTable.get(student.getEmail().value));
+            record.writeInt(student.getCourses().size());
+            for (Course course : student.getCourses()) {
+                record.writeInt(stringTable.get(course.courseCode));
+            }
+            writeRecord(recordBytes, out);
+        }
+
+        out.writeInt(addressBook.getConsultList().size());
+        for (Consultation consult : addressBook.getConsultList()) {
+            record.writeInt(stringTable.get(consult.getDate().getValue()));
+            record.writeInt(stringTable.get(consult.getTime().getValue()));
+            record.writeInt(consult.getStudents().size());
+            for (Student student : consult.getStudents()) {
+                record.writeInt(stringTable.get(student.getName().fullName));
+            }
+            writeRecord(recordBytes, out);
+        }
+
+        Map<Lesson, ByteBuffer> writtenRosters = new IdentityHashMap<>();
+        ByteArrayOutputStream rosterBytes = new ByteArrayOutputStream();
+        DataOutputStream roster = new DataOutputStream(rosterBytes);
+        out.writeInt(addressBook.getLessonList().size());
+        for (Lesson lesson : addressBook.getLessonList()) {
+            writeInlineString(lesson.getDate().getValue(), record);
+            writeInlineString(lesson.getTime().getValue(), record);
+            ByteBuffer deferredRoster = lesson.isStudentLessonInfoLoaded() ? null : deferredRosters.get(lesson);
+            if (deferredRoster == null) {
+                roster.writeInt(lesson.getStudentLessonInfoList().size());
+                for (StudentLessonInfo info : lesson.getStudentLessonInfoList()) {
+                    writeInlineString(info.getStudent().getName().fullName, roster);
+                    roster.writeBoolean(info.getAttendance());
+                    roster.writeInt(info.getParticipationScore());
+                }
+                deferredRoster = ByteBuffer.wrap(rosterBytes.toByteArray());
+                rosterBytes.reset();
+            } else {
+                writtenRosters.put(lesson, deferredRoster);
+            }
+            record.writeInt((int) checksum(deferredRoster));
+            record.write(deferredRoster.array(), deferredRoster.arrayOffset() + deferredRoster.position(),
+                    deferredRoster.remaining());
+            writeRecord(recordBytes, out);
+        }
+        return writtenRosters;
+    }
+
+    /**
+     * Writes {@code string} to {@code out} as length-prefixed UTF-8 bytes.
+     */
+    private static void writeInlineString(String string, DataOutputStream out) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the remaining bytes in {@code bytes}.
+     */
+    private static long checksum(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * Returns every distinct string in {@code addressBook}, mapped to its index in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Student student : addressBook.getStudentList()) {
+            stringTable.putIfAbsent(student.getName().fullName, stringTable.size());
+            stringTable.putIfAbsent(student.getPhone().value, stringTable.size());
+            stringTable.putIfAbsent(student.getEmail().value, stringTable.size());
+            student.getCourses().forEach(course -> stringTable.putIfAbsent(course.courseCode, stringTable.size()));
+        }
+        for (Consultation consult : addressBook.getConsultList()) {
+            stringTable.putIfAbsent(consult.getDate().getValue(), stringTable.size());
+            stringTable.putIfAbsent(consult.getTime().getValue(), stringTable.size());
+        }
+        return stringTable;
+    }
+
+    /**
+     * Writes the record in {@code recordBytes} to {@code out} prefixed by its length, then clears it.
+     */
+    private static void writeRecord(ByteArrayOutputStream recordBytes, DataOutputStream out) throws IOException {
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        recordBytes.reset();
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Reads an address book from {@code in}, whose total length is {@code fileSize} bytes.
+     * The rosters of the lessons read are deferred, and put into {@code deferredRosters}.
+     */
+    private static AddressBook read(DataInputStream in, long fileSize, Map<Lesson, ByteBuffer> deferredRosters)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] stringTable = new String[readCount(in, fileSize)];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = new String(readBytes(in, fileSize), StandardCharsets.UTF_8);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            int studentCount = readCount(in, fileSize);
+            for (int i = 0; i < studentCount; i++) {
+                ByteBuffer record = ByteBuffer.wrap(readBytes(in, fileSize));
+                String name = readString(record, stringTable);
+                String phone = readString(record, stringTable);
+                String email = readString(record, stringTable);
+                List<JsonAdaptedCourse> courses = new ArrayList<>();
+                for (int j = readCount(record); j > 0; j--) {
+                    courses.add(new JsonAdaptedCourse(readString(record, stringTable)));
+                }
+                Student student = new JsonAdaptedStudent(name, phone, email, courses).toModelType();
+                if (addressBook.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+                }
+                addressBook.addStudent(student);
+            }
+
+            int consultCount = readCount(in, fileSize);
+            for (int i = 0; i < consultCount; i++) {
+                ByteBuffer record = ByteBuffer.wrap(readBytes(in, fileSize));
+                String date = readString(record, stringTable);
+                String time = readString(record, stringTable);
+                List<JsonAdaptedStudentReference> students = new ArrayList<>();
+                for (int j = readCount(record); j > 0; j--) {
+                    students.add(new JsonAdaptedStudentReference(readString(record, stringTable)));
+                }
+                addressBook.addConsult(new JsonAdaptedConsultation(date, time, students).toModelType(addressBook));
+            }
+
+            Map<String, Name> studentNames = new HashMap<>();
+            for (Student student : addressBook.getStudentList()) {
+                studentNames.put(student.getName().fullName, student.getName());
+            }
+            int lessonCount = readCount(in, fileSize);
+            // The lesson section is the rest of the file, and is kept as one buffer that deferred rosters refer to
+            ByteBuffer lessonSection = ByteBuffer.wrap(in.readAllBytes());
+            for (int i = 0; i < lessonCount; i++) {
+                ByteBuffer record = readRecord(lessonSection);
+                String date = readInlineString(record);
+                String time = readInlineString(record);
+                long expectedChecksum = Integer.toUnsignedLong(record.getInt());
+                ByteBuffer roster = record.slice();
+                if (checksum(roster) != expectedChecksum) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+                Lesson header = new JsonAdaptedLesson(date, time, List.of()).toModelType(addressBook);
+                DeferredRoster deferredRoster = new DeferredRoster(roster, addressBook);
+                Lesson lesson = Lesson.deferred(header.getDate(), header.getTime(),
+                        deferredRoster.readStudentNames(studentNames), deferredRoster);
+                if (addressBook.hasLesson(lesson)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+                }
+                addressBook.addLesson(lesson);
+                deferredRosters.put(lesson, roster);
+            }
+            if (lessonSection.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+        } catch (BufferUnderflowException bue) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, bue);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads a count from {@code in}, which cannot exceed {@code fileSize} in a valid file.
+     */
+    private static int readCount(DataInputStream in, long fileSize) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > fileSize) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a count from {@code record}, which cannot exceed the bytes left in a valid record.
+     */
+    private static int readCount(ByteBuffer record) throws IOException {
+        int count = record.getInt();
+        if (count < 0 || count > record.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a length-prefixed record from {@code section}, and returns it as a buffer sharing its content.
+     */
+    private static ByteBuffer readRecord(ByteBuffer section) throws IOException {
+        int length = readCount(section);
+        ByteBuffer record = section.slice(section.position(), length);
+        section.position(section.position() + length);
+        return record;
+    }
+
+    /**
+     * Reads a string written by {@link #writeInlineString} from {@code record}.
+     */
+    private static String readInlineString(ByteBuffer record) throws IOException {
+        ByteBuffer bytes = readRecord(record);
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Reads a length-prefixed sequence of bytes from {@code in}.
+     */
+    private static byte[] readBytes(DataInputStream in, long fileSize) throws IOException {
+        byte[] bytes = new byte[readCount(in, fileSize)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads an index into {@code stringTable} from {@code record}, and returns the string at that index.
+     */
+    private static String readString(ByteBuffer record, String[] stringTable) throws IOException {
+        int index = record.getInt();
+        if (index < 0 || index >= stringTable.length) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return stringTable[index];
+    }
+
+    /**
+     * Decodes the roster of a lesson read from the lesson section, the first time the lesson needs it.
+     * Students are resolved against the address book the lesson was read with. Any later change to a student
+     * passes through every lesson with that student, which loads the roster first.
+     */
+    private static class DeferredRoster implements Supplier<List<StudentLessonInfo>> {
+        private final ByteBuffer roster;
+        private final AddressBook addressBook;
+
+        DeferredRoster(ByteBuffer roster, AddressBook addressBook) {
+            this.roster = roster;
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public List<StudentLessonInfo> get() {
+            ByteBuffer record = roster.duplicate();
+            List<StudentLessonInfo> infos = new ArrayList<>();
+            try {
+                for (int j = readCount(record); j > 0; j--) {
+                    JsonAdaptedStudentReference student = new JsonAdaptedStudentReference(readInlineString(record));
+                    boolean attendance = record.get() != 0;
+                    infos.add(new JsonAdaptedStudentLessonInfo(student, attendance, record.getInt())
+                            .toModelType(addressBook));
+                }
+            } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                // The checksum was verified when the file was read, so this roster was written by another version
+                throw new IllegalStateException(MESSAGE_CORRUPTED_FILE, e);
+            }
+            return infos;
+        }
+
+        /**
+         * Returns the names of the students in the roster, taken from {@code studentNames}, which maps the full
+         * name of every student in the address book to their name. Only the names in the roster are decoded.
+         * Names of students not in the address book are left out, as they fail to load with the rest of the roster.
+         *
+         * @throws IOException if the roster is corrupted.
+         */
+        Set<Name> readStudentNames(Map<String, Name> studentNames) throws IOException {
+            ByteBuffer record = roster.duplicate();
+            Set<Name> names = new HashSet<>();
+            try {
+                for (int j = readCount(record); j > 0; j--) {
+                    Name name = studentNames.get(readInlineString(record));
+                    if (name != null) {
+                        names.add(name);
+                    }
+                    record.position(record.position() + Byte.BYTES + Integer.BYTES);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Wraps a list of address book entries so that journalled changes can be replayed on it by identity.
+ * Replaying a change on a list that already contains it leaves the list unchanged, so a journal that
+ * outlived the snapshot it was written against can still be replayed safely.
+ *
+ * @param <T> Type of the list entries.
+ */
+class JournalReplayList<T> {
+
+    private final List<T> entries;
+    private final Function<? super T, String> identityOf;
+    private final Set<String> identities = new HashSet<>();
+
+    /**
+     * Creates a {@code JournalReplayList} that edits {@code entries} in place.
+     *
+     * @param entries Entries to replay changes on.
+     * @param identityOf Function returning the identity of an entry.
+     */
+    public JournalReplayList(List<T> entries, Function<? super T, String> identityOf) {
+        requireAllNonNull(entries, identityOf);
+        this.entries = entries;
+        this.identityOf = identityOf;
+        entries.forEach(entry -> identities.add(identityOf.apply(entry)));
+    }
+
+    /**
+     * Removes the entry with the given {@code identity}, if there is one.
+     *
+     * @param identity Identity of the entry to remove.
+     * @param expectedIndex Index at which the entry is expected to be found.
+     */
+    public void remove(String identity, int expectedIndex) {
+        if (identities.remove(identity)) {
+            entries.remove(indexOf(identity, expectedIndex));
+        }
+    }
+
+    /**
+     * Inserts {@code entry} at {@code index}, or replaces the existing entry with the same identity.
+     *
+     * @param entry Entry to insert.
+     * @param index Index at which the entry should be inserted.
+     */
+    public void add(T entry, int index) {
+        String identity = identityOf.apply(entry);
+        if (identities.add(identity)) {
+            entries.add(Math.min(index, entries.size()), entry);
+        } else {
+            entries.set(indexOf(identity, index), entry);
+        }
+    }
+
+    /**
+     * Returns the index of the entry with the given {@code identity}, checking {@code expectedIndex} first.
+     */
+    private int indexOf(String identity, int expectedIndex) {
+        if (expectedIndex < entries.size() && Objects.equals(identity, identityOf.apply(entries.get(expectedIndex)))) {
+            return expectedIndex;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (Objects.equals(identity, identityOf.apply(entries.get(i)))) {
+                return i;
+            }
+        }
+        throw new AssertionError("Identity " + identity + " is tracked but not present");
+    }
+}
@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file, in the format of another {@code AddressBookStorage},
+ * followed by an append-only journal of changes.
+ * The changes made to the address book are recorded as they are made, and saving it only appends the changes
+ * recorded since its last save to the journal, instead of rewriting the whole snapshot. A new snapshot is written
+ * when the saved address book is not being recorded, when entries were reordered, when the journal grows past the
+ * compaction threshold, and after a failed write.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // Used by the thread that changes and saves the address book
+    private final AddressBookChangeRecorder recorder = new AddressBookChangeRecorder();
+    private Path recordedFilePath;
+    private int journalEntryCount;
+
+    // Used by the thread that reads the address book, or that writes the prepared saves
+    private Path readFilePath;
+    private long readJournalLength;
+    private int readJournalEntryCount;
+    private long journalLength;
+    private volatile boolean isSnapshotRequired;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes its snapshots with {@code snapshotStorage}, and
+     * compacts its journal into the snapshot once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Changes in the journal are replayed on top of the snapshot. Reading stops at the first journal entry
+     * that cannot be read, as such an entry can only have been left behind by an interrupted save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+        long length = FileUtil.isFileExists(journalFilePath) ? readJournal(journalFilePath, changes) : 0;
+        synchronized (this) {
+            readFilePath = filePath;
+            readJournalLength = length;
+            readJournalEntryCount = changes.size();
+        }
+        if (changes.isEmpty()) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        try {
+            replay(addressBook, changes);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, which must hold the data just read from
+     * {@code filePath}. Does nothing if the data last read by this storage is not from {@code filePath}.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireAllNonNull(addressBook, filePath);
+
+        synchronized (this) {
+            if (!filePath.equals(readFilePath)) {
+                return;
+            }
+            journalLength = readJournalLength;
+        }
+        recorder.record(addressBook);
+        recordedFilePath = filePath;
+        journalEntryCount = readJournalEntryCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSave(addressBook, filePath).write();
+    }
+
+    /**
+     * Prepares a save that appends the changes recorded since {@code addressBook} was last saved to the journal,
+     * or that writes a new snapshot if a new snapshot is required.
+     * Only a new snapshot copies the contents of {@code addressBook}.
+     */
+    @Override
+    public PreparedSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!recorder.isRecording(addressBook) || !filePath.equals(recordedFilePath) || recorder.isReordered()
+                || isSnapshotRequired || journalEntryCount >= compactionThreshold) {
+            PreparedSave snapshotSave = snapshotStorage.prepareSave(addressBook, filePath);
+            recorder.record(addressBook);
+            recordedFilePath = filePath;
+            journalEntryCount = 0;
+            return () -> compact(snapshotSave, filePath);
+        }
+
+        JsonAdaptedAddressBookChange change = recorder.takeChanges();
+        if (!change.isEmpty()) {
+            journalEntryCount++;
+        }
+        return new JournalAppend(this, filePath, change);
+    }
+
+    /**
+     * Writes a new snapshot with {@code snapshotSave} and discards the journal of the snapshot at {@code filePath}.
+     */
+    private synchronized void compact(PreparedSave snapshotSave, Path filePath) throws IOException {
+        try {
+            snapshotSave.write();
+            Files.deleteIfExists(getJournalFilePath(filePath));
+        } catch (IOException ioe) {
+            isSnapshotRequired = true;
+            throw ioe;
+        }
+        journalLength = 0;
+        isSnapshotRequired = false;
+    }
+
+    /**
+     * Appends {@code change} to the journal of the snapshot at {@code filePath}.
+     * The entry is written right after the last entry known to be complete, so writing it again after a failed
+     * write does not leave the failed part of it in between.
+     */
+    private synchronized void appendToJournal(JsonAdaptedAddressBookChange change, Path filePath)
+            throws IOException {
+        try {
+            journalLength += FileUtil.writeToFile(getJournalFilePath(filePath),
+                    JsonUtil.toCompactJsonString(change) + "\n", journalLength);
+        } catch (IOException ioe) {
+            isSnapshotRequired = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Reads the journal entries at {@code journalFilePath} into {@code changes}, stopping at the first entry that
+     * cannot be read, and returns the length in bytes of the entries read.
+     */
+    private static long readJournal(Path journalFilePath, List<JsonAdaptedAddressBookChange> changes)
+            throws DataLoadingException {
+        byte[] journal;
+        try {
+            journal = Files.readAllBytes(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int entryStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] != '\n') {
+                continue;
+            }
+            String entry = new String(journal, entryStart, i - entryStart, StandardCharsets.UTF_8);
+            try {
+                changes.add(JsonUtil.fromJsonString(entry, JsonAdaptedAddressBookChange.class));
+            } catch (IOException ioe) {
+                logger.warning("Ignoring unreadable journal entries from " + journalFilePath + ": " + ioe);
+                return entryStart;
+            }
+            entryStart = i + 1;
+        }
+        if (entryStart < journal.length) {
+            logger.warning("Ignoring incomplete journal entry at the end of " + journalFilePath);
+        }
+        return entryStart;
+    }
+
+    /**
+     * Replays the journalled {@code changes} on {@code addressBook}, in order.
+     * Consultations and lessons are only converted once the students of all the changes have been replayed,
+     * as each of them must be checked against the students at the end of the journal.
+     */
+    private static void replay(AddressBook addressBook, List<JsonAdaptedAddressBookChange> changes)
+            throws IllegalValueException {
+        List<Student> students = new ArrayList<>(addressBook.getStudentList());
+        JournalReplayList<Student> studentEntries =
+                new JournalReplayList<>(students, JsonAdaptedAddressBookChange::identityOf);
+        Map<String, JsonAdaptedConsultation> consults = new LinkedHashMap<>();
+        Map<String, JsonAdaptedLesson> lessons = new LinkedHashMap<>();
+        for (JsonAdaptedAddressBookChange change : changes) {
+            for (JsonAdaptedListChange<JsonAdaptedStudent> studentChange : change.getStudentChanges()) {
+                for (String identity : studentChange.getRemoved()) {
+                    studentEntries.remove(identity, studentChange.getFrom());
+                }
+                List<JsonAdaptedStudent> added = studentChange.getAdded();
+                for (int i = 0; i < added.size(); i++) {
+                    studentEntries.add(added.get(i).toModelType(), studentChange.getFrom() + i);
+                }
+            }
+            change.getConsultChanges().forEach(consultChange -> replay(consultChange, consults,
+                    consult -> JsonAdaptedAddressBookChange.identityOf(consult.getDate(), consult.getTime())));
+            change.getLessonChanges().forEach(lessonChange -> replay(lessonChange, lessons,
+                    lesson -> JsonAdaptedAddressBookChange.identityOf(lesson.getDate(), lesson.getTime())));
+        }
+        addressBook.setStudents(students);
+
+        List<Consultation> replayedConsults = new ArrayList<>();
+        for (Consultation consult : addressBook.getConsultList()) {
+            if (!consults.containsKey(JsonAdaptedAddressBookChange.identityOf(consult))) {
+                replayedConsults.add(consult);
+            }
+        }
+        for (JsonAdaptedConsultation consult : consults.values()) {
+            if (consult != null) {
+                replayedConsults.add(consult.toModelType(addressBook));
+            }
+        }
+        addressBook.setConsults(replayedConsults);
+
+        List<Lesson> replayedLessons = new ArrayList<>();
+        for (Lesson lesson : addressBook.getLessonList()) {
+            if (!lessons.containsKey(JsonAdaptedAddressBookChange.identityOf(lesson))) {
+                replayedLessons.add(lesson);
+            }
+        }
+        for (JsonAdaptedLesson lesson : lessons.values()) {
+            if (lesson != null) {
+                replayedLessons.add(lesson.toModelType(addressBook));
+            }
+        }
+        addressBook.setLessons(replayedLessons);
+    }
+
+    /**
+     * Replays {@code change} on {@code entries}, which maps the identity of each changed entry to its latest version,
+     * or to null if it was removed.
+     */
+    private static <T> void replay(JsonAdaptedListChange<T> change, Map<String, T> entries,
+            Function<T, String> identityOf) {
+        change.getRemoved().forEach(identity -> entries.put(identity, null));
+        change.getAdded().forEach(entry -> entries.put(identityOf.apply(entry), entry));
+    }
+
+    /**
+     * A save that appends the changes recorded between two saves to the journal.
+     * Appends that are waiting to be written together are combined into a single journal entry.
+     */
+    private static class JournalAppend implements PreparedSave {
+        private final JournaledAddressBookStorage storage;
+        private final Path filePath;
+        private final JsonAdaptedAddressBookChange change;
+
+        JournalAppend(JournaledAddressBookStorage storage, Path filePath, JsonAdaptedAddressBookChange change) {
+            this.storage = storage;
+            this.filePath = filePath;
+            this.change = change;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (!change.isEmpty()) {
+                storage.appendToJournal(change, filePath);
+            }
+        }
+
+        @Override
+        public boolean isComplete() {
+            return false;
+        }
+
+        @Override
+        public PreparedSave andThen(PreparedSave next) {
+            if (!(next instanceof JournalAppend)) {
+                return PreparedSave.super.andThen(next);
+            }
+
+            JournalAppend nextAppend = (JournalAppend) next;
+            if (nextAppend.storage != storage || !nextAppend.filePath.equals(filePath)) {
+                return PreparedSave.super.andThen(next);
+            }
+            return new JournalAppend(storage, filePath, change.followedBy(nextAppend.change));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly record of all changes made to an address book between two saves.
+ * Each record is stored as a single line in the journal of a {@link JournaledAddressBookStorage}.
+ */
+class JsonAdaptedAddressBookChange {
+
+    private final List<JsonAdaptedListChange<JsonAdaptedStudent>> students = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedConsultation>> consults = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedLesson>> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given list changes.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(
+            @JsonProperty("students") List<JsonAdaptedListChange<JsonAdaptedStudent>> students,
+            @JsonProperty("consults") List<JsonAdaptedListChange<JsonAdaptedConsultation>> consults,
+            @JsonProperty("lessons") List<JsonAdaptedListChange<JsonAdaptedLesson>> lessons) {
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (consults != null) {
+            this.consults.addAll(consults);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    public List<JsonAdaptedListChange<JsonAdaptedStudent>> getStudentChanges() {
+        return students;
+    }
+
+    public List<JsonAdaptedListChange<JsonAdaptedConsultation>> getConsultChanges() {
+        return consults;
+    }
+
+    public List<JsonAdaptedListChange<JsonAdaptedLesson>> getLessonChanges() {
+        return lessons;
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return students.isEmpty() && consults.isEmpty() && lessons.isEmpty();
+    }
+
+    /**
+     * Returns a record of the changes in this record, followed by those in {@code next}.
+     */
+    public JsonAdaptedAddressBookChange followedBy(JsonAdaptedAddressBookChange next) {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange(students, consults, lessons);
+        change.students.addAll(next.students);
+        change.consults.addAll(next.consults);
+        change.lessons.addAll(next.lessons);
+        return change;
+    }
+
+    /**
+     * Returns the identity under which {@code student} is recorded in the journal.
+     */
+    public static String identityOf(Student student) {
+        return student.getName().fullName;
+    }
+
+    /**
+     * Returns the identity under which {@code consult} is recorded in the journal.
+     */
+    public static String identityOf(Consultation consult) {
+        return identityOf(consult.getDate().getValue(), consult.getTime().getValue());
+    }
+
+    /**
+     * Returns the identity under which {@code lesson} is recorded in the journal.
+     */
+    public static String identityOf(Lesson lesson) {
+        return identityOf(lesson.getDate().getValue(), lesson.getTime().getValue());
+    }
+
+    /**
+     * Returns the identity under which a consultation or lesson at the given {@code date} and {@code time}
+     * is recorded in the journal.
+     */
+    public static String identityOf(String date, String time) {
+        return date + " " + time;
+    }
+}
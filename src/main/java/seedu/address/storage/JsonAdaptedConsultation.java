@@ -19,18 +19,16 @@ import seedu.address.model.student.Student;
 class JsonAdaptedConsultation {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Consultation's %s field is missing!";
-    public static final String STUDENT_NOT_FOUND_MESSAGE =
-            "Student %s does not exist in TAHub, or details do not match!";
     private final String date;
     private final String time;
-    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final List<JsonAdaptedStudentReference> students = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedConsultation} with the given student details.
      */
     @JsonCreator
     public JsonAdaptedConsultation(@JsonProperty("date") String date, @JsonProperty("time") String time,
-                                   @JsonProperty("students") List<JsonAdaptedStudent> students) {
+                                   @JsonProperty("students") List<JsonAdaptedStudentReference> students) {
         this.date = date;
         this.time = time;
         if (students != null) {
@@ -45,14 +43,28 @@ class JsonAdaptedConsultation {
         date = consult.getDate().getValue();
         time = consult.getTime().getValue();
         students.addAll(consult.getStudents().stream()
-                .map(JsonAdaptedStudent::new)
+                .map(JsonAdaptedStudentReference::new)
                 .toList());
     }
 
+    /**
+     * Returns the date of the consultation.
+     */
+    public String getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the time of the consultation.
+     */
+    public String getTime() {
+        return time;
+    }
+
     /**
      * Converts this Jackson-friendly adapted consultation object into the model's {@code Consultation} object.
      *
-     * @param addressBook AddressBook instance to verify that the student(s) exist in.
+     * @param addressBook AddressBook instance to look up the student(s) in.
      * @throws IllegalValueException if there were any data constraints violated in the adapted consultation.
      */
     public Consultation toModelType(AddressBook addressBook) throws IllegalValueException {
@@ -75,14 +87,8 @@ class JsonAdaptedConsultation {
 
         final List<Student> modelStudents = new ArrayList<>();
 
-        for (JsonAdaptedStudent student : students) {
-            Student modelStudent = student.toModelType();
-            // check to ensure student data matches an existing student
-            if (!addressBook.hasStudent(modelStudent)) {
-                throw new IllegalValueException(
-                        String.format(STUDENT_NOT_FOUND_MESSAGE, modelStudent.getName().fullName));
-            }
-            modelStudents.add(modelStudent);
+        for (JsonAdaptedStudentReference student : students) {
+            modelStudents.add(student.toModelType(addressBook));
         }
 
         return new Consultation(modelDate, modelTime, modelStudents);
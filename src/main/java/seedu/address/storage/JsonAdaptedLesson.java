@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,7 @@ import seedu.address.model.datetime.Date;
 import seedu.address.model.datetime.Time;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.StudentLessonInfo;
+import seedu.address.model.student.Name;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
@@ -21,6 +24,7 @@ class JsonAdaptedLesson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
     public static final String STUDENT_NOT_FOUND_MESSAGE = "Student %s"
             + " does not exist in the address book, or details do not match!";
+    public static final String DUPLICATE_STUDENT_MESSAGE = "Lesson contains student %s more than once!";
 
     private final String date;
     private final String time;
@@ -56,6 +60,20 @@ class JsonAdaptedLesson {
                 studentLessonInfoList.add(new JsonAdaptedStudentLessonInfo(studentLessonInfo)));
     }
 
+    /**
+     * Returns the date of the lesson.
+     */
+    public String getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the time of the lesson.
+     */
+    public String getTime() {
+        return time;
+    }
+
     /**
      * Converts this Jackson-friendly adapted lesson object into the model's
      * {@code Lesson} object.
@@ -70,10 +88,15 @@ class JsonAdaptedLesson {
         final Date modelDate = new Date(date);
         final Time modelTime = new Time(time);
         final List<StudentLessonInfo> modelStudentLessonInfoList = new ArrayList<>();
+        final Set<Name> studentNames = new HashSet<>();
 
         for (JsonAdaptedStudentLessonInfo jsonInfo : studentLessonInfoList) {
             // checking that student exists in TAHub is already done in StudentLessonInfo::toModelType
             StudentLessonInfo studentLessonInfo = jsonInfo.toModelType(addressBook);
+            if (!studentNames.add(studentLessonInfo.getStudent().getName())) {
+                throw new IllegalValueException(String.format(DUPLICATE_STUDENT_MESSAGE,
+                        studentLessonInfo.getStudent().getName()));
+            }
             modelStudentLessonInfoList.add(studentLessonInfo);
         }
 
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of a single change to one of the address book's lists.
+ * Removed entries are recorded by their identity only, while added entries are recorded in full.
+ *
+ * @param <T> Jackson-friendly type of the list entries.
+ */
+class JsonAdaptedListChange<T> {
+
+    private final int from;
+    private final List<String> removed = new ArrayList<>();
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given details.
+     *
+     * @param from Index in the list at which the change took place.
+     * @param removed Identities of the entries removed from the list.
+     * @param added Entries inserted into the list, starting at {@code from}.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("from") int from, @JsonProperty("removed") List<String> removed,
+            @JsonProperty("added") List<T> added) {
+        this.from = from;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+}
@@ -6,15 +6,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.StudentLessonInfo;
-import seedu.address.model.student.Student;
 
 /**
  * Jackson-friendly version of {@link StudentLessonInfo}.
  */
 class JsonAdaptedStudentLessonInfo {
-    public static final String STUDENT_NOT_FOUND_MESSAGE = "Student %s"
-            + " does not exist in the address book, or details do not match!";
-    private final JsonAdaptedStudent student;
+    private final JsonAdaptedStudentReference student;
     private final boolean attendance;
     private final int participationScore;
 
@@ -22,7 +19,7 @@ class JsonAdaptedStudentLessonInfo {
      * Constructs a {@code JsonAdaptedCourse} with the given arguments.
      */
     @JsonCreator
-    public JsonAdaptedStudentLessonInfo(@JsonProperty("student") JsonAdaptedStudent student,
+    public JsonAdaptedStudentLessonInfo(@JsonProperty("student") JsonAdaptedStudentReference student,
                                         @JsonProperty("attendance") boolean attendance,
                                         @JsonProperty("participation") int participationScore) {
         this.student = student;
@@ -34,7 +31,7 @@ class JsonAdaptedStudentLessonInfo {
      * Converts a given {@code StudentLessonInfo} into this class for Jackson use.
      */
     public JsonAdaptedStudentLessonInfo(StudentLessonInfo studentLessonInfo) {
-        this.student = new JsonAdaptedStudent(studentLessonInfo.getStudent());
+        this.student = new JsonAdaptedStudentReference(studentLessonInfo.getStudent());
         this.attendance = studentLessonInfo.getAttendance();
         this.participationScore = studentLessonInfo.getParticipationScore();
     }
@@ -45,13 +42,7 @@ class JsonAdaptedStudentLessonInfo {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public StudentLessonInfo toModelType(AddressBook addressBook) throws IllegalValueException {
-        Student modelStudent = student.toModelType();
-
-        if (!addressBook.hasStudent(modelStudent)) {
-            throw new IllegalValueException(
-                    String.format(STUDENT_NOT_FOUND_MESSAGE, modelStudent.getName().fullName));
-        }
-        return new StudentLessonInfo(student.toModelType(), attendance, participationScore);
+        return new StudentLessonInfo(student.toModelType(addressBook), attendance, participationScore);
     }
 
     @Override
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly reference to a {@link Student} from a consultation or lesson.
+ * References are saved as the name of the student only, and are resolved against the students already read.
+ * References saved by older versions, which embed all the details of the student, can still be read.
+ */
+class JsonAdaptedStudentReference {
+
+    public static final String STUDENT_NOT_FOUND_MESSAGE = "Student %s does not exist in TAHub!";
+    public static final String MISSING_NAME_MESSAGE = "Student reference is missing a name!";
+
+    private final String name;
+
+    /**
+     * Constructs a {@code JsonAdaptedStudentReference} to the student with the given {@code name}.
+     */
+    public JsonAdaptedStudentReference(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Converts a given {@code Student} into a reference for Jackson use.
+     */
+    public JsonAdaptedStudentReference(Student student) {
+        this(student.getName().fullName);
+    }
+
+    /**
+     * Reads a reference saved either as the name of the student, or as an embedded {@link JsonAdaptedStudent}.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static JsonAdaptedStudentReference fromJson(Object value) {
+        if (value instanceof Map<?, ?> embeddedStudent) {
+            Object embeddedName = embeddedStudent.get("name");
+            return new JsonAdaptedStudentReference(embeddedName instanceof String ? (String) embeddedName : null);
+        }
+        return new JsonAdaptedStudentReference(value instanceof String ? (String) value : null);
+    }
+
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the student in {@code addressBook} that this reference refers to.
+     *
+     * @throws IllegalValueException if there is no such student.
+     */
+    public Student toModelType(AddressBook addressBook) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(MISSING_NAME_MESSAGE);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(String.format(STUDENT_NOT_FOUND_MESSAGE, name));
+        }
+        return addressBook.findStudentByName(new Name(name))
+                .orElseThrow(() -> new IllegalValueException(String.format(STUDENT_NOT_FOUND_MESSAGE, name)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof JsonAdaptedStudentReference)) {
+            return false;
+        }
+
+        JsonAdaptedStudentReference otherReference = (JsonAdaptedStudentReference) other;
+        return Objects.equals(name, otherReference.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+}
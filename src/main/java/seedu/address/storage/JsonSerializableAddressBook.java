@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -15,75 +17,160 @@ import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
 /**
- * An Immutable AddressBook that is serializable to JSON format.
+ * Reads and writes an address book in JSON format, one entry at a time.
  */
-@JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
 
-    private final List<JsonAdaptedStudent> students = new ArrayList<>();
-    private final List<JsonAdaptedConsultation> consults = new ArrayList<>();
-    private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+    private JsonSerializableAddressBook() {} // prevents instantiation
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given data.
+     * Reads the address book at the current position of {@code parser} directly into the model's
+     * {@code AddressBook} object, converting each entry as soon as it has been read.
+     *
+     * @throws IOException if the data is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students,
-            @JsonProperty("consults") List<JsonAdaptedConsultation> consults,
-            @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
-        // Null checks are required in case an address book has students but no consults
-        // or lessons.
-        if (students != null) {
-            this.students.addAll(students);
-        }
-        if (consults != null) {
-            this.consults.addAll(consults);
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        // Consultations and lessons can only be checked against the students once all of them have been read.
+        // Students are written first, so entries are only held back here if the file was reordered by hand.
+        List<JsonAdaptedConsultation> heldBackConsults = new ArrayList<>();
+        List<JsonAdaptedLesson> heldBackLessons = new ArrayList<>();
+        EntryHandler converter = new EntryHandler() {
+            private boolean hasReadStudents;
+
+            @Override
+            public void handleStudent(JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException {
+                hasReadStudents = true;
+                addStudent(addressBook, jsonAdaptedStudent);
+            }
+
+            @Override
+            public void handleConsult(JsonAdaptedConsultation jsonAdaptedConsultation)
+                    throws IllegalValueException {
+                if (hasReadStudents) {
+                    addConsult(addressBook, jsonAdaptedConsultation);
+                } else {
+                    heldBackConsults.add(jsonAdaptedConsultation);
+                }
+            }
+
+            @Override
+            public void handleLesson(JsonAdaptedLesson jsonAdaptedLesson) throws IllegalValueException {
+                if (hasReadStudents) {
+                    addLesson(addressBook, jsonAdaptedLesson);
+                } else {
+                    heldBackLessons.add(jsonAdaptedLesson);
+                }
+            }
+        };
+        readEntries(parser, converter);
+
+        for (JsonAdaptedConsultation jsonAdaptedConsultation : heldBackConsults) {
+            addConsult(addressBook, jsonAdaptedConsultation);
         }
-        if (lessons != null) {
-            this.lessons.addAll(lessons);
+        for (JsonAdaptedLesson jsonAdaptedLesson : heldBackLessons) {
+            addLesson(addressBook, jsonAdaptedLesson);
         }
+        return addressBook;
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
-     *
-     * @param source future changes to this will not affect the created
-     *               {@code JsonSerializableAddressBook}.
+     * Writes {@code source} to {@code generator}, converting and writing one entry at a time.
      */
-    public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).toList());
-        consults.addAll(source.getConsultList().stream().map(JsonAdaptedConsultation::new).toList());
-        lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).toList());
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("students");
+        for (Student student : source.getStudentList()) {
+            generator.writeObject(new JsonAdaptedStudent(student));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("consults");
+        for (Consultation consult : source.getConsultList()) {
+            generator.writeObject(new JsonAdaptedConsultation(consult));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("lessons");
+        for (Lesson lesson : source.getLessonList()) {
+            generator.writeObject(new JsonAdaptedLesson(lesson));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void addStudent(AddressBook addressBook, JsonAdaptedStudent jsonAdaptedStudent)
+            throws IllegalValueException {
+        Student student = jsonAdaptedStudent.toModelType();
+        if (addressBook.hasStudent(student)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        }
+        addressBook.addStudent(student);
+    }
+
+    private static void addConsult(AddressBook addressBook, JsonAdaptedConsultation jsonAdaptedConsultation)
+            throws IllegalValueException {
+        Consultation consult = jsonAdaptedConsultation.toModelType(addressBook);
+        addressBook.addConsult(consult);
+    }
+
+    private static void addLesson(AddressBook addressBook, JsonAdaptedLesson jsonAdaptedLesson)
+            throws IllegalValueException {
+        Lesson lesson = jsonAdaptedLesson.toModelType(addressBook);
+        if (addressBook.hasLesson(lesson)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        }
+        addressBook.addLesson(lesson);
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * Reads the address book object at the current position of {@code parser},
+     * passing each entry to {@code handler} as soon as it has been read.
+     * Fields other than the students, consults and lessons lists are skipped.
      */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            addressBook.addStudent(student);
-        }
-        for (JsonAdaptedConsultation jsonAdaptedConsultation : consults) {
-            Consultation consult = jsonAdaptedConsultation.toModelType(addressBook);
-            addressBook.addConsult(consult);
+    private static void readEntries(JsonParser parser, EntryHandler handler)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
         }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType(addressBook);
-            if (addressBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken listToken = parser.nextToken();
+            boolean isEntryList = fieldName.equals("students") || fieldName.equals("consults")
+                    || fieldName.equals("lessons");
+            if (!isEntryList || listToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (listToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of " + fieldName);
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                switch (fieldName) {
+                case "students":
+                    handler.handleStudent(parser.readValueAs(JsonAdaptedStudent.class));
+                    break;
+                case "consults":
+                    handler.handleConsult(parser.readValueAs(JsonAdaptedConsultation.class));
+                    break;
+                default:
+                    handler.handleLesson(parser.readValueAs(JsonAdaptedLesson.class));
+                    break;
+                }
             }
-            addressBook.addLesson(lesson);
         }
-        return addressBook;
+    }
+
+    /**
+     * Receives the entries of an address book as they are read.
+     */
+    private interface EntryHandler {
+        void handleStudent(JsonAdaptedStudent student) throws IllegalValueException;
+
+        void handleConsult(JsonAdaptedConsultation consult) throws IllegalValueException;
+
+        void handleLesson(JsonAdaptedLesson lesson) throws IllegalValueException;
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of AddressBook data that was prepared while the address book could not change, and that can be written
+ * later on another thread.
+ */
+@FunctionalInterface
+public interface PreparedSave {
+
+    /**
+     * Writes the prepared data. Writing a save again after it failed is allowed.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if this save writes all the data of the address book, so that saves prepared before it
+     * need not be written.
+     */
+    default boolean isComplete() {
+        return true;
+    }
+
+    /**
+     * Returns a save that writes what this save writes, followed by what {@code next} writes.
+     * {@code next} must have been prepared after this save.
+     */
+    default PreparedSave andThen(PreparedSave next) {
+        if (next.isComplete()) {
+            return next;
+        }
+
+        PreparedSave first = this;
+        return new PreparedSave() {
+            @Override
+            public void write() throws IOException {
+                first.write();
+                next.write();
+            }
+
+            @Override
+            public boolean isComplete() {
+                return first.isComplete();
+            }
+        };
+    }
+}
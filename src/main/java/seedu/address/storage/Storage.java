@@ -29,4 +29,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until all saved data has been written to the hard disk.
+     *
+     * @throws IOException if some saved data could not be written.
+     */
+    void flush() throws IOException;
+
 }
@@ -75,4 +75,20 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PreparedSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        logger.fine("Preparing to write to data file: " + filePath);
+        return addressBookStorage.prepareSave(addressBook, filePath);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        addressBookStorage.trackAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Data is written as soon as it is saved, so there is nothing to wait for.
+    }
+
 }
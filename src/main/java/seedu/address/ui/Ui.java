@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedback} to the user in place of the result of the last command. May be called from any thread. */
+    void showFeedback(String feedback);
+
 }
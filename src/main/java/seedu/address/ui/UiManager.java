@@ -50,6 +50,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedback(String feedback) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedback(feedback);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
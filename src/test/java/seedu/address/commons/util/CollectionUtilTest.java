@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -82,6 +83,21 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicates() {
+        // no duplicates
+        assertTrue(CollectionUtil.findDuplicates(Collections.emptyList(), String::length).isEmpty());
+        assertTrue(CollectionUtil.findDuplicates(Arrays.asList("a", "bb", "ccc"), String::length).isEmpty());
+
+        // every repeated key is reported, in encounter order
+        assertEquals(Arrays.asList("b", "dd", "e"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "cc", "dd", "e"), String::length));
+
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(Collections.emptyList(), null));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -105,4 +121,15 @@ public class CollectionUtilTest {
     private void assertNullPointerExceptionNotThrown(Collection<?> collection) {
         requireAllNonNull(collection);
     }
+
+    @Test
+    public void lowerBound() {
+        List<Integer> sortedItems = List.of(1, 3, 3, 7);
+
+        assertEquals(0, CollectionUtil.lowerBound(sortedItems, 0, Integer::longValue));
+        assertEquals(1, CollectionUtil.lowerBound(sortedItems, 3, Integer::longValue));
+        assertEquals(3, CollectionUtil.lowerBound(sortedItems, 4, Integer::longValue));
+        assertEquals(4, CollectionUtil.lowerBound(sortedItems, 8, Integer::longValue));
+        assertEquals(0, CollectionUtil.lowerBound(List.<Integer>of(), 1, Integer::longValue));
+    }
 }
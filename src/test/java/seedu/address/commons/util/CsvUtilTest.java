@@ -0,0 +1,108 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    //---------------- Tests for splitRecord --------------------------------------
+
+    @Test
+    public void splitRecord_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitRecord(null));
+    }
+
+    @Test
+    public void splitRecord_unquotedFields_splitOnSeparators() {
+        assertEquals(List.of(""), CsvUtil.splitRecord(""));
+        assertEquals(List.of("a", "b", "c"), CsvUtil.splitRecord("a,b,c"));
+        assertEquals(List.of("", "b", ""), CsvUtil.splitRecord(",b,"));
+        // whitespace in unquoted fields is kept
+        assertEquals(List.of(" a ", " b"), CsvUtil.splitRecord(" a , b"));
+    }
+
+    @Test
+    public void splitRecord_quotedFields_unquoted() {
+        assertEquals(List.of("Doe, John", "CS2103T;CS2101"), CsvUtil.splitRecord("\"Doe, John\",\"CS2103T;CS2101\""));
+        assertEquals(List.of("say \"hi\"", ""), CsvUtil.splitRecord("\"say \"\"hi\"\"\",\"\""));
+        assertEquals(List.of("line\nbreak"), CsvUtil.splitRecord("\"line\nbreak\""));
+        // whitespace around quoted fields is ignored
+        assertEquals(List.of("a", "b"), CsvUtil.splitRecord(" \"a\" , \"b\""));
+    }
+
+    @Test
+    public void splitRecord_malformedQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitRecord("a,\"b"));
+        assertThrows(IllegalArgumentException.class, String.format(CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, 2), () ->
+                CsvUtil.splitRecord("a,\"b\"c"));
+    }
+
+    //---------------- Tests for escapeField --------------------------------------
+
+    @Test
+    public void escapeField() {
+        assertEquals("", CsvUtil.escapeField(null));
+        assertEquals("plain text", CsvUtil.escapeField("plain text"));
+        assertEquals("\"Doe, John\"", CsvUtil.escapeField("Doe, John"));
+        assertEquals("\"O'Brien\"", CsvUtil.escapeField("O'Brien"));
+        // line breaks become spaces, even in quoted fields
+        assertEquals("a b c", CsvUtil.escapeField("a\r\nb\nc"));
+        assertEquals("\"say \"\"hi\"\" bye\"", CsvUtil.escapeField("say \"hi\"\rbye"));
+    }
+
+    //---------------- Tests for hasUnclosedQuote --------------------------------------
+
+    @Test
+    public void hasUnclosedQuote() {
+        assertFalse(CsvUtil.hasUnclosedQuote("a,b"));
+        assertFalse(CsvUtil.hasUnclosedQuote("\"a \"\"b\"\"\",c"));
+        assertTrue(CsvUtil.hasUnclosedQuote("a,\"b"));
+        assertTrue(CsvUtil.hasUnclosedQuote("\"a \"\"b"));
+
+        // a quote inside an unquoted field does not open a quoted field
+        assertFalse(CsvUtil.hasUnclosedQuote("O\"Brien,b"));
+        assertFalse(CsvUtil.hasUnclosedQuote("a,b\""));
+        assertTrue(CsvUtil.hasUnclosedQuote("O\"Brien,  \"b"));
+    }
+
+    //---------------- Tests for readRecord --------------------------------------------
+
+    @Test
+    public void readRecord() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                "a,b\n\n  \n\"c\nd\",e\n\"f \"\"g\"\"\",h\n\"i"));
+        assertEquals("a,b", CsvUtil.readRecord(reader));
+        assertEquals("\"c\nd\",e", CsvUtil.readRecord(reader));
+        assertEquals("\"f \"\"g\"\"\",h", CsvUtil.readRecord(reader));
+
+        // a quoted field left open runs to the end of the file
+        assertEquals("\"i", CsvUtil.readRecord(reader));
+        assertEquals(null, CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_strayQuoteInUnquotedField_followingRecordsReadSeparately() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                "O\"Brien,a\nb,c\n\"d\ne\",f\n"));
+        assertEquals("O\"Brien,a", CsvUtil.readRecord(reader));
+        assertEquals(List.of("O\"Brien", "a"), CsvUtil.splitRecord("O\"Brien,a"));
+        assertEquals("b,c", CsvUtil.readRecord(reader));
+        assertEquals("\"d\ne\",f", CsvUtil.readRecord(reader));
+        assertEquals(null, CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_nullReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.readRecord(null));
+    }
+}
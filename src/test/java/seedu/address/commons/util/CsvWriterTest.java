@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CsvWriterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void writeField_specialCharacters_escaped() throws IOException {
+        Path path = temporaryFolder.resolve("test.csv");
+        try (CsvWriter csvWriter = new CsvWriter(path)) {
+            csvWriter.writeRawRecord("Name,Count,Courses");
+            csvWriter.writeField("Doe, John").writeField(42).writeField(List.of("CS2103T", "CS2101"), ';').endRecord();
+            csvWriter.writeField("say \"hi\"\r\nbye").writeField(-1).writeField(List.of(), ';').endRecord();
+            csvWriter.writeField("O'Brien").writeField(0).writeField(List.of("a,b", "c"), ';').endRecord();
+        }
+        assertEquals(List.of("Name,Count,Courses", "\"Doe, John\",42,CS2103T;CS2101", "\"say \"\"hi\"\" bye\",-1,",
+                "\"O'Brien\",0,\"a,b;c\""), Files.readAllLines(path));
+    }
+
+    @Test
+    public void close_largeOutput_copyIdentical() throws IOException {
+        Path path = temporaryFolder.resolve("test.csv");
+        Path copyPath = temporaryFolder.resolve("copy.csv");
+        StringBuilder expected = new StringBuilder();
+        CsvWriter csvWriter = new CsvWriter(path, copyPath, false);
+        try (csvWriter) {
+            for (int i = 0; i < 20000; i++) {
+                // characters encoded as several bytes land across the ends of the buffers
+                String name = "Name é中😀 " + i;
+                csvWriter.writeField(name).writeField(i).endRecord();
+                expected.append(name).append(',').append(i).append('\n');
+            }
+        }
+        assertTrue(csvWriter.hasCopy());
+        assertEquals(expected.toString(), Files.readString(path, StandardCharsets.UTF_8));
+        assertEquals(expected.toString(), Files.readString(copyPath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void close_fileCannotBeEncoded_copyDeleted() throws IOException {
+        Path path = temporaryFolder.resolve("test.csv");
+        Path copyPath = temporaryFolder.resolve("copy.csv");
+        CsvWriter csvWriter = new CsvWriter(path, copyPath, false);
+        for (int i = 0; i < 20000; i++) {
+            csvWriter.writeField("Name " + i).endRecord();
+        }
+        // an unpaired surrogate cannot be encoded, which only shows when the last buffer is flushed
+        csvWriter.writeField("Name \uD800");
+
+        assertThrows(CharacterCodingException.class, csvWriter::close);
+        assertFalse(csvWriter.hasCopy());
+        assertFalse(Files.exists(copyPath));
+    }
+
+    @Test
+    public void constructor_copyExists_replacedOnlyIfAllowed() throws IOException {
+        Path path = temporaryFolder.resolve("test.csv");
+        Path copyPath = temporaryFolder.resolve("copy.csv");
+        Files.writeString(copyPath, "old");
+
+        CsvWriter keepingWriter = new CsvWriter(path, copyPath, false);
+        try (keepingWriter) {
+            keepingWriter.writeField("new").endRecord();
+        }
+        assertFalse(keepingWriter.hasCopy());
+        assertEquals("old", Files.readString(copyPath));
+        assertEquals("new\n", Files.readString(path));
+
+        CsvWriter replacingWriter = new CsvWriter(path, copyPath, true);
+        try (replacingWriter) {
+            replacingWriter.writeField("newer").endRecord();
+        }
+        assertTrue(replacingWriter.hasCopy());
+        assertEquals("newer\n", Files.readString(copyPath));
+    }
+
+    @Test
+    public void constructor_copyCannotBeCreated_writesFileOnly() throws IOException {
+        Path path = temporaryFolder.resolve("test.csv");
+        Path copyPath = temporaryFolder.resolve("nonexistent").resolve("copy.csv");
+        CsvWriter csvWriter = new CsvWriter(path, copyPath, true);
+        try (csvWriter) {
+            csvWriter.writeField("data").endRecord();
+        }
+        assertFalse(csvWriter.hasCopy());
+        assertFalse(Files.exists(copyPath));
+        assertEquals("data\n", Files.readString(path));
+    }
+}
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,18 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_atOffset_replacesRestOfFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        // missing file -> created
+        assertEquals(6, FileUtil.writeToFile(file, "first\n", 0));
+        assertEquals("first\n", Files.readString(file));
+
+        // bytes after the offset -> discarded
+        Files.writeString(file, "first\nsec");
+        assertEquals(7, FileUtil.writeToFile(file, "second\n", 6));
+        assertEquals("first\nsecond\n", Files.readString(file));
+    }
+
 }
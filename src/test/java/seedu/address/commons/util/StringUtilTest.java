@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(0, StringUtil.getEditDistance("abc", "abc"));
+        assertEquals(1, StringUtil.getEditDistance("john doe", "jon doe")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("jon doe", "john doe")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("meier", "meyer")); // substitution
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.getEditDistance("Abc", "abc")); // case-sensitive
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
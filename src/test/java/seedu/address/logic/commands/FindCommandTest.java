@@ -18,6 +18,7 @@ import static seedu.address.testutil.TypicalStudents.KEYWORD_MATCHING_ELLE_ONE_M
 import static seedu.address.testutil.TypicalStudents.KEYWORD_MATCHING_MEIER_TWO_MATCH;
 import static seedu.address.testutil.TypicalStudents.getTypicalStudentOnlyAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -25,12 +26,14 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.IsStudentOfCoursePredicate;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -196,6 +199,59 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, GEORGE), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_courseFoundThenStudentsEdited_filterFollowsEdits() {
+        FindCommand command = new FindCommand(List.of(prepareCoursePredicate(VALID_COURSE_CS2101)));
+        command.execute(model);
+        assertEquals(Arrays.asList(BENSON, ELLE), model.getFilteredStudentList());
+
+        // edited student who still takes the course stays in the list
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("91234567").build();
+        model.setStudent(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, ELLE), model.getFilteredStudentList());
+
+        // edited student who no longer takes the course leaves the list
+        Student editedElle = new StudentBuilder(ELLE).withCourses(VALID_COURSE_CS2030).build();
+        model.setStudent(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedBenson), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_courseFoundThenStudentEdited_filterFollowsEditDuringChange() {
+        FindCommand command = new FindCommand(List.of(prepareCoursePredicate(VALID_COURSE_CS2101)));
+        command.execute(model);
+
+        // A FilteredList tests the changed students while the student list notifies its listeners
+        List<List<Student>> filteredListsDuringChange = new ArrayList<>();
+        model.getAddressBook().getStudentList().addListener((ListChangeListener<Student>) change ->
+                filteredListsDuringChange.add(List.copyOf(model.getFilteredStudentList())));
+
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("91234567").build();
+        model.setStudent(BENSON, editedBenson);
+        assertEquals(List.of(List.of(editedBenson, ELLE)), filteredListsDuringChange);
+    }
+
+    @Test
+    public void execute_nameFoundThenStudentRenamed_filterFollowsEdits() {
+        FindCommand command = new FindCommand(List.of(prepareNamePredicate(KEYWORD_MATCHING_MEIER_TWO_MATCH)));
+        command.execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+
+        Student renamedBenson = new StudentBuilder(BENSON).withName("Benson Mayer").build();
+        model.setStudent(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_fuzzyName_studentsWithCloseNamesFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        // "Meyer" is one typo away from "Meier"
+        FindCommand command = new FindCommand(List.of(new NameContainsKeywordsPredicate(List.of("~meyer"))));
+        expectedModel.updateFilteredStudentList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethod() {
         List<Predicate<Student>> predicates = List.of(
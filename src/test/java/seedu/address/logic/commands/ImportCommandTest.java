@@ -20,6 +20,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -228,6 +230,68 @@ public class ImportCommandTest {
         assertEquals("Original Entry,Error Message", errorLines.get(0));
     }
 
+    @Test
+    public void execute_onlyInvalidEntries_modelUnchanged() throws IOException, CommandException {
+        Path invalidFile = testDir.resolve("invalid.csv");
+        try (FileWriter writer = new FileWriter(invalidFile.toFile())) {
+            writer.write("Name,Phone,Email,Courses\n");
+            writer.write("Jane Doe,12345678,invalid-email,CS2103T\n");
+        }
+        filesToCleanup.add(invalidFile);
+        filesToCleanup.add(invalidFile.resolveSibling("error.csv"));
+
+        ImportCommand importCommand = new ImportCommand("invalid.csv") {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testDir.resolve(filepath);
+            }
+        };
+        model.addStudent(new StudentBuilder().build());
+        model.updateFilteredStudentList(unused -> false);
+        long version = model.getAddressBook().getVersion();
+
+        importCommand.execute(model);
+
+        assertEquals(version, model.getAddressBook().getVersion());
+        assertTrue(model.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void execute_manyStudents_addressBookChangesOnce() throws IOException, CommandException {
+        Path validFile = testDir.resolve("many.csv");
+        try (FileWriter writer = new FileWriter(validFile.toFile())) {
+            writer.write("Name,Phone,Email,Courses\n");
+            for (char first = 'a'; first <= 'z'; first++) {
+                for (char second = 'a'; second <= 'z'; second++) {
+                    writer.write("Student " + first + second + ",12345678,student@example.com,CS2103T\n");
+                }
+            }
+            // Duplicate of an earlier entry in the file
+            writer.write("Student aa,12345678,student@example.com,CS2103T\n");
+        }
+        filesToCleanup.add(validFile);
+
+        ImportCommand importCommand = new ImportCommand("many.csv") {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testDir.resolve(filepath);
+            }
+        };
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        model.getAddressBook().getStudentList().addListener((ListChangeListener<Student>) changes::add);
+
+        CommandResult result = importCommand.execute(model);
+
+        Path errorFile = validFile.resolveSibling("error.csv");
+        filesToCleanup.add(errorFile);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_WITH_ERRORS, 26 * 26, 1, errorFile) + "\n"
+                + ImportErrorLog.MESSAGE_SUMMARY_HEADER + "\n"
+                + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1, "Duplicate student"),
+                result.getFeedbackToUser());
+        assertEquals(26 * 26, model.getFilteredStudentList().size());
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void execute_validFileWithQuotesAndCommas() throws IOException, CommandException {
         Path validFile = testDir.resolve("quoted.csv");
@@ -254,6 +318,37 @@ public class ImportCommandTest {
                 .anyMatch(s -> s.getName().fullName.equals("Smith, Jane")));
     }
 
+    @Test
+    public void execute_quotedFieldAcrossLines_parsedAsOneEntry() throws IOException, CommandException {
+        Path validFile = testDir.resolve("multiline.csv");
+        try (FileWriter writer = new FileWriter(validFile.toFile())) {
+            writer.write("Name,Phone,Email,Courses\n");
+            writer.write("John Doe,12345678,john@example.com,\"CS2103T;\nCS2101\"\n");
+            writer.write("Jane Doe,87654321,jane@example.com,\"CS2103T\n");
+        }
+        filesToCleanup.add(validFile);
+
+        ImportCommand importCommand = new ImportCommand("multiline.csv") {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testDir.resolve(filepath);
+            }
+        };
+
+        CommandResult result = importCommand.execute(model);
+
+        Path errorFile = validFile.resolveSibling("error.csv");
+        filesToCleanup.add(errorFile);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_WITH_ERRORS, 1, 1, errorFile) + "\n"
+                + ImportErrorLog.MESSAGE_SUMMARY_HEADER + "\n"
+                + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1, CsvUtil.MESSAGE_UNTERMINATED_QUOTE),
+                result.getFeedbackToUser());
+        assertTrue(model.hasStudent(new StudentBuilder().withName("John Doe")
+                .withCourses("CS2103T", "CS2101").build()));
+        assertTrue(Files.readAllLines(errorFile).stream()
+                .anyMatch(line -> line.contains(CsvUtil.MESSAGE_UNTERMINATED_QUOTE)));
+    }
+
     @Test
     public void execute_homeDirectoryPath() throws IOException, CommandException {
         // Create test file in a subdirectory of temp folder (simulating home directory)
@@ -355,7 +450,9 @@ public class ImportCommandTest {
         List<String> errorLines = Files.readAllLines(errorFile);
         assertTrue(errorLines.stream()
                 .anyMatch(line -> line.contains("Incomplete student entry")));
-        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_WITH_ERRORS, 0, 1, errorFile),
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_WITH_ERRORS, 0, 1, errorFile) + "\n"
+                + ImportErrorLog.MESSAGE_SUMMARY_HEADER + "\n"
+                + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1, "Incomplete student entry"),
                 result.getFeedbackToUser());
     }
 
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ImportErrorLog.MAX_ERROR_TYPES;
+import static seedu.address.logic.commands.ImportErrorLog.MAX_WRITTEN_ERRORS;
+import static seedu.address.logic.commands.ImportErrorLog.SAMPLE_INTERVAL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImportErrorLogTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void close_noErrors_noErrorFile() throws IOException {
+        Path errorPath = temporaryFolder.resolve("error.csv");
+        try (ImportErrorLog errorLog = new ImportErrorLog(errorPath)) {
+            assertEquals(0, errorLog.getErrorCount());
+        }
+        assertFalse(Files.exists(errorPath));
+    }
+
+    @Test
+    public void add_fewErrors_allWrittenAndGrouped() throws IOException {
+        Path errorPath = temporaryFolder.resolve("error.csv");
+        ImportErrorLog errorLog = new ImportErrorLog(errorPath);
+        errorLog.add("a,b", "Incomplete entry");
+        errorLog.add("Doe, John", "Duplicate student");
+        errorLog.add("c", "Incomplete entry");
+        errorLog.close();
+
+        assertEquals(List.of(ImportErrorLog.HEADER, "\"a,b\",Incomplete entry", "\"Doe, John\",Duplicate student",
+                "c,Incomplete entry"), Files.readAllLines(errorPath));
+        assertEquals(3, errorLog.getErrorCount());
+        assertEquals(ImportErrorLog.MESSAGE_SUMMARY_HEADER
+                + "\n" + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 2, "Incomplete entry")
+                + "\n" + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1, "Duplicate student"),
+                errorLog.getSummary());
+    }
+
+    @Test
+    public void add_manyErrors_sampledAndGroupsCapped() throws IOException {
+        Path errorPath = temporaryFolder.resolve("error.csv");
+        int errorCount = MAX_WRITTEN_ERRORS + 3 * SAMPLE_INTERVAL;
+        ImportErrorLog errorLog = new ImportErrorLog(errorPath);
+        for (int i = 0; i < errorCount; i++) {
+            errorLog.add("entry", i < MAX_ERROR_TYPES ? "Error " + i : "Common error");
+        }
+        errorLog.close();
+
+        int writtenCount = MAX_WRITTEN_ERRORS + 3;
+        assertEquals(writtenCount + 1, Files.readAllLines(errorPath).size());
+        assertEquals(errorCount, errorLog.getErrorCount());
+        String summary = errorLog.getSummary();
+        assertEquals(MAX_ERROR_TYPES + 3, summary.split("\n").length);
+        assertTrue(summary.endsWith("\n"
+                + String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, errorCount - MAX_ERROR_TYPES,
+                        ImportErrorLog.MESSAGE_OTHER_ERRORS)
+                + "\n" + String.format(ImportErrorLog.MESSAGE_SAMPLED, writtenCount)));
+    }
+}
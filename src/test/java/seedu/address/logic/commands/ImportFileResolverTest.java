@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImportFileResolverTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void resolve_nonCsvFileInCurrentDirectory_pathAsGiven() throws IOException {
+        Path file = Paths.get("importFileResolverTest_roster.txt");
+        Files.writeString(file, "");
+        try {
+            assertEquals(file, ImportFileResolver.resolve("importFileResolverTest_roster.txt"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void resolve_csvFileInCurrentDirectory_extensionAdded() throws IOException {
+        Path file = Paths.get("importFileResolverTest_roster.csv");
+        Files.writeString(file, "");
+        try {
+            assertEquals(file, ImportFileResolver.resolve("importFileResolverTest_roster"));
+            assertEquals(file, ImportFileResolver.resolve("importFileResolverTest_roster.csv"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void resolve_absolutePath_pathAsGiven() throws IOException {
+        Path file = temporaryFolder.resolve("roster.txt");
+        Files.writeString(file, "");
+        assertEquals(file, ImportFileResolver.resolve(file.toString()));
+    }
+
+    @Test
+    public void resolve_missingFile_dataDirectoryPath() {
+        assertEquals(Paths.get("data", "importFileResolverTest_missing.csv"),
+                ImportFileResolver.resolve("importFileResolverTest_missing"));
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.ImportErrorLog;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.consultation.Consultation;
 import seedu.address.model.student.Name;
@@ -270,6 +271,38 @@ public class ImportConsultCommandTest {
         assertEquals(0, modelStub.consultations.size());
     }
 
+    @Test
+    public void execute_duplicateInFile_recordsErrorAndAddsOnce() throws Exception {
+        ImportConsultCommand testCommand = new ImportConsultCommand(testCsvPath.toString()) {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testCsvPath;
+            }
+        };
+        createCsvFile(VALID_HEADER + "\n" + VALID_CONSULT + "\n2024-10-19,09:00,Alice Pauline\n" + VALID_CONSULT);
+
+        CommandResult result = testCommand.execute(modelStub);
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1, ImportConsultCommand.MESSAGE_DUPLICATE_CONSULT)));
+        assertEquals(2, modelStub.consultations.size());
+        assertEquals(1, modelStub.addCount);
+    }
+
+    @Test
+    public void execute_quotedFieldAcrossLines_parsedAsOneEntry() throws Exception {
+        ImportConsultCommand testCommand = new ImportConsultCommand(testCsvPath.toString()) {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testCsvPath;
+            }
+        };
+        createCsvFile(VALID_HEADER + "\n2024-10-19,09:00,\"\nAlice Pauline\"\n" + VALID_CONSULT);
+
+        CommandResult result = testCommand.execute(modelStub);
+        assertEquals(String.format(ImportConsultCommand.MESSAGE_SUCCESS, 2, 0), result.getFeedbackToUser());
+        assertEquals(2, modelStub.consultations.size());
+    }
+
     @Test
     public void testEscapeSpecialCharacters() {
         // Test null input
@@ -361,11 +394,19 @@ public class ImportConsultCommandTest {
             return consultations.contains(consultation);
         }
 
+        private int addCount;
+
         @Override
         public void addConsult(Consultation consultation) {
             consultations.add(consultation);
         }
 
+        @Override
+        public void addConsults(List<Consultation> consults) {
+            consultations.addAll(consults);
+            addCount++;
+        }
+
         @Override
         public Optional<Student> findStudentByName(Name name) {
             if (name.fullName.equals(ALICE.getName().fullName)) {
@@ -89,6 +89,11 @@ public class RemoveFromConsultCommandTest {
             return FXCollections.observableArrayList(consults);
         }
 
+        @Override
+        public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+            return List.of();
+        }
+
         @Override
         public java.util.Optional<Student> findStudentByName(Name name) {
             for (Student student : consultation.getStudents()) {
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentOnlyAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.StudentLessonInfo;
+
+public class ExportLessonCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path dataDir;
+    private Path homeDir;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataDir = temporaryFolder.resolve("data");
+        homeDir = temporaryFolder.resolve("home");
+        Files.createDirectories(homeDir);
+        model = new ModelManager(getTypicalStudentOnlyAddressBook(), new UserPrefs());
+        model.addLesson(new Lesson(new Date("2024-10-21"), new Time("10:00")));
+        model.addLesson(new Lesson(new Date("2024-10-20"), new Time("14:00"),
+                List.of(new StudentLessonInfo(ALICE, true, 30), new StudentLessonInfo(BENSON, false, 5))));
+    }
+
+    private ExportLessonCommand createCommand(String filename, boolean isForceExport) {
+        return new ExportLessonCommand(filename, isForceExport, dataDir) {
+            @Override
+            protected Path getHomeFilePath(String filename) {
+                return homeDir.resolve(filename + ".csv");
+            }
+        };
+    }
+
+    @Test
+    public void equals() {
+        ExportLessonCommand command1 = new ExportLessonCommand("file1", false, dataDir);
+
+        // same object -> returns true
+        assertTrue(command1.equals(command1));
+
+        // same values -> returns true
+        assertTrue(command1.equals(new ExportLessonCommand("file1", false, dataDir)));
+
+        // different types -> returns false
+        assertFalse(command1.equals(1));
+
+        // null -> returns false
+        assertFalse(command1.equals(null));
+
+        // different file -> returns false
+        assertFalse(command1.equals(new ExportLessonCommand("file2", false, dataDir)));
+
+        // same file different force flag -> returns false
+        assertFalse(command1.equals(new ExportLessonCommand("file1", true, dataDir)));
+    }
+
+    @Test
+    public void getCommandType() {
+        assertEquals(CommandType.LESSON, new ExportLessonCommand("file1", false, dataDir).getCommandType());
+    }
+
+    @Test
+    public void execute_lessons_oneRowPerStudent() throws Exception {
+        CommandResult result = createCommand("lessons", false).execute(model);
+
+        Path dataFile = dataDir.resolve("lessons.csv");
+        Path homeFile = homeDir.resolve("lessons.csv");
+        assertEquals(String.format(ExportLessonCommand.MESSAGE_SUCCESS_WITH_COPY, 2, dataFile, homeFile),
+                result.getFeedbackToUser());
+        List<String> expectedLines = List.of(ImportLessonCommand.HEADER,
+                "2024-10-20,14:00,Alice Pauline,Y,30",
+                "2024-10-20,14:00,Benson Meier,N,5",
+                "2024-10-21,10:00,,,");
+        assertEquals(expectedLines, Files.readAllLines(dataFile));
+        assertEquals(expectedLines, Files.readAllLines(homeFile));
+    }
+
+    @Test
+    public void execute_fileExists_throwsCommandException() throws Exception {
+        Files.createDirectories(dataDir);
+        Path dataFile = dataDir.resolve("lessons.csv");
+        Files.writeString(dataFile, "existing");
+
+        assertThrows(CommandException.class, String.format(ExportLessonCommand.MESSAGE_FILE_EXISTS, dataFile), () ->
+                createCommand("lessons", false).execute(model));
+        assertEquals("existing", Files.readString(dataFile));
+    }
+
+    @Test
+    public void execute_invalidFilename_throwsCommandException() {
+        assertThrows(CommandException.class, ExportLessonCommand.INVALID_FILENAME_MESSAGE, () ->
+                createCommand("my lessons", false).execute(model));
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentOnlyAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.ImportErrorLog;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.datetime.Date;
+import seedu.address.model.datetime.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.StudentLessonInfo;
+
+public class ImportLessonCommandTest {
+
+    private static final String HEADER = ImportLessonCommand.HEADER;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path testCsvPath;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        testCsvPath = temporaryFolder.resolve("lessons.csv");
+        model = new ModelManager(getTypicalStudentOnlyAddressBook(), new UserPrefs());
+    }
+
+    private ImportLessonCommand createCommand() {
+        return new ImportLessonCommand(testCsvPath.toString()) {
+            @Override
+            protected Path resolveFilePath(String filepath) {
+                return testCsvPath;
+            }
+        };
+    }
+
+    @Test
+    public void equals() {
+        ImportLessonCommand command1 = new ImportLessonCommand("file1.csv");
+        ImportLessonCommand command2 = new ImportLessonCommand("file2.csv");
+
+        // same object -> returns true
+        assertTrue(command1.equals(command1));
+
+        // same values -> returns true
+        assertTrue(command1.equals(new ImportLessonCommand("file1.csv")));
+
+        // different types -> returns false
+        assertFalse(command1.equals(1));
+
+        // null -> returns false
+        assertFalse(command1.equals(null));
+
+        // different file -> returns false
+        assertFalse(command1.equals(command2));
+    }
+
+    @Test
+    public void getCommandType() {
+        assertEquals(CommandType.LESSON, new ImportLessonCommand("file.csv").getCommandType());
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws IOException {
+        Files.writeString(testCsvPath, "");
+        assertThrows(CommandException.class, ImportLessonCommand.MESSAGE_EMPTY_FILE, () ->
+                createCommand().execute(model));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws IOException {
+        Files.writeString(testCsvPath, "Date,Time,Students\n2024-10-20,14:00,Alice Pauline");
+        assertThrows(CommandException.class, ImportLessonCommand.MESSAGE_INVALID_HEADER, () ->
+                createCommand().execute(model));
+    }
+
+    @Test
+    public void execute_rowsOfSameLesson_importedAsOneLesson() throws Exception {
+        Files.writeString(testCsvPath, HEADER + "\n"
+                + "2024-10-21,10:00,Benson Meier,N,0\n"
+                + "2024-10-20,14:00,Alice Pauline,Y,50\n"
+                + "2024-10-21,10:00,Alice Pauline,1,20\n"
+                + "2024-10-22,09:00,,,\n");
+
+        CommandResult result = createCommand().execute(model);
+
+        assertEquals(String.format(ImportLessonCommand.MESSAGE_SUCCESS, 3, 3, 0), result.getFeedbackToUser());
+        List<Lesson> expectedLessons = List.of(
+                new Lesson(new Date("2024-10-20"), new Time("14:00"),
+                        List.of(new StudentLessonInfo(ALICE, true, 50))),
+                new Lesson(new Date("2024-10-21"), new Time("10:00"),
+                        List.of(new StudentLessonInfo(BENSON, false, 0), new StudentLessonInfo(ALICE, true, 20))),
+                new Lesson(new Date("2024-10-22"), new Time("09:00")));
+        assertEquals(expectedLessons, model.getAddressBook().getLessonList());
+    }
+
+    @Test
+    public void execute_quotedFieldAcrossLines_parsedAsOneEntry() throws Exception {
+        Files.writeString(testCsvPath, HEADER + "\n"
+                + "2024-10-20,14:00,\"Alice Pauline\n\",Y,50\n"
+                + "2024-10-20,14:00,Benson Meier,N,0\n");
+
+        CommandResult result = createCommand().execute(model);
+
+        assertEquals(String.format(ImportLessonCommand.MESSAGE_SUCCESS, 1, 2, 0), result.getFeedbackToUser());
+        assertEquals(List.of(new Lesson(new Date("2024-10-20"), new Time("14:00"),
+                        List.of(new StudentLessonInfo(ALICE, true, 50), new StudentLessonInfo(BENSON, false, 0)))),
+                model.getAddressBook().getLessonList());
+    }
+
+    @Test
+    public void execute_invalidRows_recordsErrors() throws Exception {
+        model.addLesson(new Lesson(new Date("2024-10-19"), new Time("09:00")));
+        Files.writeString(testCsvPath, HEADER + "\n"
+                + "2024-10-19,09:00,Alice Pauline,Y,10\n"
+                + "2024-10-20,14:00,Alice Pauline,Y,10\n"
+                + "2024-10-20,14:00,Alice Pauline,N,0\n"
+                + "2024-10-20,14:00,Nonexistent Student,Y,10\n"
+                + "2024-10-20,14:00,Benson Meier,maybe,10\n"
+                + "2024-10-20,14:00,Benson Meier,Y,101\n"
+                + "2024-10-20,14:00,,Y,\n"
+                + "2024-13-45,14:00,Benson Meier,Y,10\n");
+
+        CommandResult result = createCommand().execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportLessonCommand.MESSAGE_SUCCESS_WITH_ERRORS, 1, 1, 7,
+                testCsvPath.resolveSibling("error.csv"))));
+        assertTrue(feedback.contains(String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1,
+                ImportLessonCommand.MESSAGE_DUPLICATE_LESSON)));
+        assertTrue(feedback.contains(String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1,
+                String.format(ImportLessonCommand.MESSAGE_DUPLICATE_STUDENT, "Alice Pauline"))));
+        assertTrue(feedback.contains(String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1,
+                ParserUtil.MESSAGE_INVALID_ATTENDANCE)));
+        assertTrue(feedback.contains(String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1,
+                ParserUtil.MESSAGE_INVALID_PARTICIPATION)));
+        assertTrue(feedback.contains(String.format(ImportErrorLog.MESSAGE_ERROR_COUNT, 1,
+                ImportLessonCommand.MESSAGE_UNEXPECTED_MARKS)));
+
+        Lesson expectedLesson = new Lesson(new Date("2024-10-20"), new Time("14:00"),
+                List.of(new StudentLessonInfo(ALICE, true, 10)));
+        assertEquals(List.of(new Lesson(new Date("2024-10-19"), new Time("09:00")), expectedLesson),
+                model.getAddressBook().getLessonList());
+    }
+
+    @Test
+    public void execute_exportedFile_importsSameLessons() throws Exception {
+        Lesson lesson = new Lesson(new Date("2024-10-20"), new Time("14:00"),
+                List.of(new StudentLessonInfo(ALICE, true, 30), new StudentLessonInfo(BENSON, false, 5)));
+        Model exportModel = new ModelManager(getTypicalStudentOnlyAddressBook(), new UserPrefs());
+        exportModel.addLesson(lesson);
+        exportModel.addLesson(new Lesson(new Date("2024-10-21"), new Time("10:00")));
+        new ExportLessonCommand("lessons", true, temporaryFolder) {
+            @Override
+            protected Path getHomeFilePath(String filename) {
+                return temporaryFolder.resolve("home.csv");
+            }
+        }.execute(exportModel);
+
+        createCommand().execute(model);
+
+        assertEquals(exportModel.getAddressBook().getLessonList(), model.getAddressBook().getLessonList());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelManager;
@@ -66,6 +67,21 @@ public class MarkLessonAttendanceCommandTest {
         assertThrows(CommandException.class, () -> command.execute(model));
     }
 
+    @Test
+    public void execute_misspeltStudent_failureWithSuggestion() {
+        ModelManager model = new ModelManager();
+        model.addStudent(TypicalStudents.ALICE);
+        model.addLesson(LESSON);
+
+        Name misspeltName = new Name("Alise Pauline");
+        MarkLessonAttendanceCommand command = new MarkLessonAttendanceCommand(
+                Index.fromOneBased(1), List.of(misspeltName), true);
+        assertThrows(CommandException.class, String.format(
+                MarkLessonAttendanceCommand.MESSAGE_STUDENT_NOT_FOUND_IN_ADDRESS_BOOK, misspeltName) + "\n"
+                + String.format(Messages.MESSAGE_NAME_SUGGESTIONS, TypicalStudents.ALICE.getName()), () ->
+                command.execute(model));
+    }
+
     @Test
     public void execute_studentNotInAddressBook_failure() {
         ModelManager model = new ModelManager();
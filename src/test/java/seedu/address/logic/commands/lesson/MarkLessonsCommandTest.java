@@ -0,0 +1,134 @@
+package seedu.address.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_CS2101;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.LessonBuilder;
+
+public class MarkLessonsCommandTest {
+
+    private static final List<Index> BOTH_LESSONS = List.of(Index.fromOneBased(1), Index.fromOneBased(2));
+
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addStudent(ALICE);
+        model.addStudent(BENSON);
+        model.addStudent(CARL);
+        model.addLesson(new LessonBuilder().withDate("2024-11-01")
+                .withStudent(ALICE).withStudent(BENSON).withStudent(CARL).build());
+        model.addLesson(new LessonBuilder().withDate("2024-11-08").withStudent(ALICE).withStudent(BENSON).build());
+    }
+
+    @Test
+    public void execute_allPresentExcept_success() throws Exception {
+        MarkLessonsCommand command = new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.empty(),
+                Optional.empty(), Set.of(BENSON.getName()));
+        CommandResult commandResult = command.execute(model);
+
+        // Benson was already absent, so only Alice and Carl count as marked
+        assertEquals(String.format(MarkLessonsCommand.MESSAGE_SUCCESS, 3, 2), commandResult.getFeedbackToUser());
+        for (Lesson lesson : model.getFilteredLessonList()) {
+            assertTrue(lesson.getAttendance(ALICE));
+            assertFalse(lesson.getAttendance(BENSON));
+        }
+        assertTrue(model.getFilteredLessonList().get(0).getAttendance(CARL));
+    }
+
+    @Test
+    public void execute_participationForCourse_onlyCourseStudentsMarked() throws Exception {
+        MarkLessonsCommand command = new MarkLessonsCommand(List.of(Index.fromOneBased(1)), Optional.empty(),
+                Optional.of(3), Optional.of(new Course(VALID_COURSE_CS2101)), Set.of());
+        command.execute(model);
+
+        Lesson lesson = model.getFilteredLessonList().get(0);
+        assertEquals(3, lesson.getParticipation(BENSON));
+        assertTrue(lesson.getAttendance(BENSON));
+        assertEquals(0, lesson.getParticipation(ALICE));
+        assertFalse(lesson.getAttendance(ALICE));
+    }
+
+    @Test
+    public void execute_exceptedStudentNotTakingCourse_success() throws Exception {
+        MarkLessonsCommand command = new MarkLessonsCommand(List.of(Index.fromOneBased(1)), Optional.of(false),
+                Optional.empty(), Optional.of(new Course(VALID_COURSE_CS2101)), Set.of(ALICE.getName()));
+        CommandResult commandResult = command.execute(model);
+
+        Lesson lesson = model.getFilteredLessonList().get(0);
+        assertTrue(lesson.getAttendance(ALICE));
+        assertEquals(String.format(MarkLessonsCommand.MESSAGE_SUCCESS, 1, 1), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_participationOnlyWithException_exceptedStudentNotCounted() throws Exception {
+        MarkLessonsCommand command = new MarkLessonsCommand(List.of(Index.fromOneBased(2)), Optional.empty(),
+                Optional.of(2), Optional.empty(), Set.of(BENSON.getName()));
+        CommandResult commandResult = command.execute(model);
+
+        Lesson lesson = model.getFilteredLessonList().get(1);
+        assertEquals(2, lesson.getParticipation(ALICE));
+        assertEquals(0, lesson.getParticipation(BENSON));
+        assertFalse(lesson.getAttendance(BENSON));
+        assertEquals(String.format(MarkLessonsCommand.MESSAGE_SUCCESS, 1, 1), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_exceptedStudentNotInLessons_noLessonChanged() {
+        List<Lesson> lessonsBefore = List.copyOf(model.getFilteredLessonList());
+        MarkLessonsCommand command = new MarkLessonsCommand(List.of(Index.fromOneBased(2)), Optional.of(true),
+                Optional.empty(), Optional.empty(), Set.of(CARL.getName()));
+        assertThrows(CommandException.class, String.format(MarkLessonsCommand.MESSAGE_STUDENTS_NOT_FOUND_IN_LESSONS,
+                CARL.getName()), () -> command.execute(model));
+        assertEquals(lessonsBefore, model.getFilteredLessonList());
+    }
+
+    @Test
+    public void execute_lessonIndexOutOfBounds_failure() {
+        MarkLessonsCommand command = new MarkLessonsCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(3)),
+                Optional.of(true), Optional.empty(), Optional.empty(), Set.of());
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertFalse(model.getFilteredLessonList().get(0).getAttendance(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        MarkLessonsCommand command = new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.empty(),
+                Optional.empty(), Set.of(ALICE.getName()));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.empty(),
+                Optional.empty(), Set.of(ALICE.getName()))));
+        assertFalse(command.equals(new MarkLessonsCommand(List.of(Index.fromOneBased(1)), Optional.of(true),
+                Optional.empty(), Optional.empty(), Set.of(ALICE.getName()))));
+        assertFalse(command.equals(new MarkLessonsCommand(BOTH_LESSONS, Optional.of(false), Optional.empty(),
+                Optional.empty(), Set.of(ALICE.getName()))));
+        assertFalse(command.equals(new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.of(1),
+                Optional.empty(), Set.of(ALICE.getName()))));
+        assertFalse(command.equals(new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.empty(),
+                Optional.of(new Course(VALID_COURSE_CS2101)), Set.of(ALICE.getName()))));
+        assertFalse(command.equals(new MarkLessonsCommand(BOTH_LESSONS, Optional.of(true), Optional.empty(),
+                Optional.empty(), Set.of())));
+        assertFalse(command.equals(null));
+    }
+}
@@ -91,6 +91,11 @@ public class RemoveFromLessonCommandTest {
             return FXCollections.observableArrayList(lessons);
         }
 
+        @Override
+        public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+            return List.of();
+        }
+
         @Override
         public java.util.Optional<Student> findStudentByName(Name name) {
             for (Student student : lesson.getStudents()) {
@@ -0,0 +1,153 @@
+package seedu.address.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_CS2101;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.datetime.Date;
+import seedu.address.testutil.LessonBuilder;
+
+public class ReportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addStudent(ALICE);
+        model.addStudent(BENSON);
+        model.addLesson(new LessonBuilder().withDate("2024-11-01")
+                .withStudent(ALICE).withAttendanceAndParticipation(ALICE, true, 2)
+                .withStudent(BENSON).build());
+        model.addLesson(new LessonBuilder().withDate("2024-11-08")
+                .withStudent(ALICE).withAttendanceAndParticipation(ALICE, true, 0)
+                .withStudent(BENSON).withAttendanceAndParticipation(BENSON, true, 3).build());
+    }
+
+    /**
+     * Returns a ReportCommand that exports to {@code filename} in the temporary folder, and copies the export to
+     * a separate folder in the temporary folder instead of the home directory.
+     */
+    private ReportCommand createExportingCommand(String filename, boolean isForceExport) {
+        return new ReportCommand(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(filename),
+                isForceExport, temporaryFolder.resolve("data")) {
+            @Override
+            protected Path getHomeFilePath(String filename) {
+                return temporaryFolder.resolve(filename + ".csv");
+            }
+        };
+    }
+
+    @Test
+    public void execute_allLessons_success() throws Exception {
+        ReportCommand command = new ReportCommand(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), false);
+        CommandResult result = command.execute(model);
+
+        String expectedFeedback = String.join("\n",
+                String.format(ReportCommand.MESSAGE_HEADER, 2),
+                String.format(ReportCommand.MESSAGE_STUDENT_SUMMARY, ALICE.getName(), 2, 2, 100.0, 2, 0),
+                String.format(ReportCommand.MESSAGE_STUDENT_SUMMARY, BENSON.getName(), 1, 2, 50.0, 3, 1),
+                ReportCommand.MESSAGE_COURSE_HEADER,
+                String.format(ReportCommand.MESSAGE_COURSE_SUMMARY, "CS2101", 1, 50.0, 3),
+                String.format(ReportCommand.MESSAGE_COURSE_SUMMARY, "CS2103T", 2, 75.0, 5));
+        assertEquals(expectedFeedback, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_courseAndDateRange_onlyMatchingStudentsAndLessons() throws Exception {
+        ReportCommand command = new ReportCommand(Optional.of(new Course(VALID_COURSE_CS2101)),
+                Optional.of(new Date("2024-11-02")), Optional.of(new Date("2024-11-08")), Optional.empty(), false);
+        CommandResult result = command.execute(model);
+
+        String expectedFeedback = String.join("\n",
+                String.format(ReportCommand.MESSAGE_HEADER, 1),
+                String.format(ReportCommand.MESSAGE_STUDENT_SUMMARY, BENSON.getName(), 1, 1, 100.0, 3, 0),
+                ReportCommand.MESSAGE_COURSE_HEADER,
+                String.format(ReportCommand.MESSAGE_COURSE_SUMMARY, "CS2101", 1, 100.0, 3));
+        assertEquals(expectedFeedback, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noStudents_noStudentsMessage() throws Exception {
+        ReportCommand command = new ReportCommand(Optional.of(new Course("CS1101S")), Optional.empty(),
+                Optional.empty(), Optional.empty(), false);
+        assertEquals(ReportCommand.MESSAGE_NO_STUDENTS, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_withFilename_exportsCsv() throws Exception {
+        CommandResult result = createExportingCommand("grades", false).execute(model);
+
+        Path dataFilePath = temporaryFolder.resolve("data").resolve("grades.csv");
+        Path homeFilePath = temporaryFolder.resolve("grades.csv");
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(ReportCommand.MESSAGE_EXPORTED_WITH_COPY, dataFilePath, homeFilePath)));
+        assertEquals(List.of(
+                "Name,Courses,Lessons,Attended,Attendance Rate,Participation,Longest Absence Streak",
+                "Alice Pauline,CS2103T,2,2,100.0,2,0",
+                "Benson Meier,CS2101;CS2103T,2,1,50.0,3,1"), Files.readAllLines(dataFilePath));
+        assertEquals(Files.readAllLines(dataFilePath), Files.readAllLines(homeFilePath));
+    }
+
+    @Test
+    public void execute_fileExists_throwsCommandException() throws IOException {
+        Files.createDirectories(temporaryFolder.resolve("data"));
+        Path existingFile = Files.createFile(temporaryFolder.resolve("data").resolve("grades.csv"));
+        assertThrows(CommandException.class, String.format(ReportCommand.MESSAGE_FILE_EXISTS, existingFile), ()
+                -> createExportingCommand("grades", false).execute(model));
+    }
+
+    @Test
+    public void execute_fileExistsWithForce_overwritten() throws Exception {
+        Files.createDirectories(temporaryFolder.resolve("data"));
+        Path existingFile = Files.writeString(temporaryFolder.resolve("data").resolve("grades.csv"), "old");
+        createExportingCommand("grades", true).execute(model);
+        assertEquals(3, Files.readAllLines(existingFile).size());
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand command = new ReportCommand(Optional.empty(), Optional.of(new Date("2024-11-01")),
+                Optional.empty(), Optional.of("grades"), false);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ReportCommand(Optional.empty(), Optional.of(new Date("2024-11-01")),
+                Optional.empty(), Optional.of("grades"), false)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different dates -> returns false
+        assertFalse(command.equals(new ReportCommand(Optional.empty(), Optional.empty(),
+                Optional.of(new Date("2024-11-01")), Optional.of("grades"), false)));
+
+        // different force flag -> returns false
+        assertFalse(command.equals(new ReportCommand(Optional.empty(), Optional.of(new Date("2024-11-01")),
+                Optional.empty(), Optional.of("grades"), true)));
+    }
+}
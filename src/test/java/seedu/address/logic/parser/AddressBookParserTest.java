@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -38,9 +39,13 @@ import seedu.address.logic.commands.consultation.ListConsultsCommand;
 import seedu.address.logic.commands.consultation.RemoveFromConsultCommand;
 import seedu.address.logic.commands.lesson.AddLessonCommand;
 import seedu.address.logic.commands.lesson.DeleteLessonCommand;
+import seedu.address.logic.commands.lesson.ExportLessonCommand;
+import seedu.address.logic.commands.lesson.ImportLessonCommand;
 import seedu.address.logic.commands.lesson.ListLessonsCommand;
 import seedu.address.logic.commands.lesson.MarkLessonAttendanceCommand;
 import seedu.address.logic.commands.lesson.MarkLessonParticipationCommand;
+import seedu.address.logic.commands.lesson.MarkLessonsCommand;
+import seedu.address.logic.commands.lesson.ReportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.consultation.Consultation;
@@ -281,6 +286,20 @@ public class AddressBookParserTest {
         assertEquals(new ImportConsultCommand(homeFilePath), homeCommand);
     }
 
+    @Test
+    public void parseCommand_exportLesson() throws Exception {
+        assertEquals(new ExportLessonCommand("lessons", false),
+                parser.parseCommand(ExportLessonCommand.COMMAND_WORD + " lessons"));
+        assertEquals(new ExportLessonCommand("lessons", true),
+                parser.parseCommand(ExportLessonCommand.COMMAND_WORD + " -f lessons"));
+    }
+
+    @Test
+    public void parseCommand_importLesson() throws Exception {
+        assertEquals(new ImportLessonCommand("lessons.csv"),
+                parser.parseCommand(ImportLessonCommand.COMMAND_WORD + " lessons.csv"));
+    }
+
     @Test
     public void parseCommand_addLesson() throws Exception {
         Lesson lesson = new LessonBuilder().build();
@@ -320,6 +339,22 @@ public class AddressBookParserTest {
                         + " 1 n/Alice Pauline n/Benson Meier a/y"));
     }
 
+    @Test
+    public void parseCommand_markLessons() throws Exception {
+        MarkLessonsCommand expectedCommand = new MarkLessonsCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2)), Optional.of(true), Optional.empty(),
+                Optional.empty(), Set.of(TypicalStudents.ALICE.getName()));
+        assertEquals(expectedCommand,
+                parser.parseCommand(MarkLessonsCommand.COMMAND_WORD + " 1;2 a/y x/Alice Pauline"));
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        ReportCommand expectedCommand = new ReportCommand(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of("grades"), false);
+        assertEquals(expectedCommand, parser.parseCommand(ReportCommand.COMMAND_WORD + " grades"));
+    }
+
     @Test
     public void parseCommand_markLessonParticipation() throws Exception {
         MarkLessonParticipationCommand expectedCommand = new MarkLessonParticipationCommand(
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.lesson.ExportLessonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ExportLessonCommandParserTest {
+
+    private ExportLessonCommandParser parser = new ExportLessonCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportLessonCommand.MESSAGE_USAGE), () -> parser.parse("     "));
+
+        // force flag without filename
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportLessonCommand.MESSAGE_USAGE), () -> parser.parse(ExportLessonCommand.FORCE_FLAG));
+    }
+
+    @Test
+    public void parse_invalidFilename_throwsParseException() {
+        assertThrows(ParseException.class,
+                ExportLessonCommandParser.MESSAGE_INVALID_FILENAME, () -> parser.parse("lessons.csv"));
+
+        assertThrows(ParseException.class,
+                ExportLessonCommandParser.MESSAGE_INVALID_FILENAME, () -> parser.parse("data/lessons"));
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportLessonCommand() throws ParseException {
+        assertEquals(new ExportLessonCommand("lessons", false), parser.parse("lessons"));
+        assertEquals(new ExportLessonCommand("lessons", true),
+                parser.parse(ExportLessonCommand.FORCE_FLAG + " lessons"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser.lesson;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportFileResolver;
+import seedu.address.logic.commands.lesson.ImportLessonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ImportLessonCommandParserTest {
+
+    private ImportLessonCommandParser parser = new ImportLessonCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportLessonCommand.MESSAGE_USAGE), () -> parser.parse("     "));
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() throws ParseException {
+        String validFile = "lessons.csv";
+        ImportLessonCommand expectedCommand = new ImportLessonCommand(validFile);
+        ImportLessonCommand actualCommand = parser.parse(validFile);
+        assert(expectedCommand.equals(actualCommand));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        // Test path with parent directory reference
+        assertThrows(ParseException.class,
+                ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT, () -> parser.parse("../lessons.csv"));
+
+        // Test absolute path
+        assertThrows(ParseException.class,
+                ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT, () -> parser.parse("/lessons.csv"));
+
+        // Test current directory reference
+        assertThrows(ParseException.class,
+                ImportFileResolver.MESSAGE_FILE_OUTSIDE_PROJECT, () -> parser.parse("./lessons.csv"));
+    }
+
+    @Test
+    public void parse_homeDirectoryPath_success() throws ParseException {
+        String homeFile = "~/documents/lessons.csv";
+        ImportLessonCommand expectedCommand = new ImportLessonCommand(homeFile);
+        ImportLessonCommand actualCommand = parser.parse(homeFile);
+        assert(expectedCommand.equals(actualCommand));
+    }
+}
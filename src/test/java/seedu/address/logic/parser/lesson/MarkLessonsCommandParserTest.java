@@ -0,0 +1,57 @@
+package seedu.address.logic.parser.lesson;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ATTENDANCE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.lesson.MarkLessonsCommandParser.MESSAGE_ABSENT_WITH_PARTICIPATION;
+import static seedu.address.logic.parser.lesson.MarkLessonsCommandParser.MESSAGE_DUPLICATE_INDEX;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.lesson.MarkLessonsCommand;
+import seedu.address.model.course.Course;
+import seedu.address.model.student.Name;
+
+public class MarkLessonsCommandParserTest {
+    private static final List<Index> VALID_INDICES = List.of(Index.fromOneBased(2), Index.fromOneBased(1));
+    private MarkLessonsCommandParser parser = new MarkLessonsCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        MarkLessonsCommand expectedCommand = new MarkLessonsCommand(VALID_INDICES, Optional.of(true),
+                Optional.of(2), Optional.of(new Course("CS2103T")),
+                Set.of(new Name("Alice Tan"), new Name("Benson Son")));
+        assertParseSuccess(parser, " 2;1 a/y pt/2 c/CS2103T x/Alice Tan x/Benson Son", expectedCommand);
+    }
+
+    @Test
+    public void parse_attendanceOnly_success() {
+        MarkLessonsCommand expectedCommand = new MarkLessonsCommand(List.of(Index.fromOneBased(1)),
+                Optional.of(false), Optional.empty(), Optional.empty(), Set.of());
+        assertParseSuccess(parser, " 1 a/n", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkLessonsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, " a/y", expectedMessage);
+        assertParseFailure(parser, " 1 x/Alice Tan", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " 1;0 a/y", MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " 1;1 a/y", String.format(MESSAGE_DUPLICATE_INDEX, 1));
+        assertParseFailure(parser, " 1 a/maybe", MESSAGE_INVALID_ATTENDANCE);
+        assertParseFailure(parser, " 1 a/n pt/3", MESSAGE_ABSENT_WITH_PARTICIPATION);
+        assertParseFailure(parser, " 1 a/y x/R@chel", Name.MESSAGE_CONSTRAINTS);
+    }
+}
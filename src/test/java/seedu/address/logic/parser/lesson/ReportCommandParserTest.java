@@ -0,0 +1,61 @@
+package seedu.address.logic.parser.lesson;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.lesson.ReportCommandParser.MESSAGE_DATES_OUT_OF_ORDER;
+import static seedu.address.logic.parser.lesson.ReportCommandParser.MESSAGE_INVALID_FILENAME;
+import static seedu.address.logic.parser.lesson.ReportCommandParser.MESSAGE_TOO_MANY_DATES;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.lesson.ReportCommand;
+import seedu.address.model.course.Course;
+import seedu.address.model.datetime.Date;
+
+public class ReportCommandParserTest {
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_noArguments_success() {
+        assertParseSuccess(parser, "", new ReportCommand(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), false));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        ReportCommand expectedCommand = new ReportCommand(Optional.of(new Course("CS2103T")),
+                Optional.of(new Date("2024-08-12")), Optional.of(new Date("2024-11-15")), Optional.of("grades"), true);
+        assertParseSuccess(parser, " -f grades c/CS2103T d/2024-08-12 d/2024-11-15", expectedCommand);
+    }
+
+    @Test
+    public void parse_oneDate_fromDateOnly() {
+        ReportCommand expectedCommand = new ReportCommand(Optional.empty(), Optional.of(new Date("2024-08-12")),
+                Optional.empty(), Optional.empty(), false);
+        assertParseSuccess(parser, " d/2024-08-12", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // force flag without filename
+        assertParseFailure(parser, " -f", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+
+        // invalid filename
+        assertParseFailure(parser, " grades.csv", MESSAGE_INVALID_FILENAME);
+
+        // invalid date
+        assertParseFailure(parser, " d/2024-13-01", Date.MESSAGE_CONSTRAINTS);
+
+        // too many dates
+        assertParseFailure(parser, " d/2024-08-12 d/2024-09-12 d/2024-10-12", MESSAGE_TOO_MANY_DATES);
+
+        // dates out of order
+        assertParseFailure(parser, " d/2024-11-15 d/2024-08-12", MESSAGE_DATES_OUT_OF_ORDER);
+
+        // invalid course
+        assertParseFailure(parser, " c/CS", Course.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -84,6 +85,42 @@ public class AddressBookTest {
         assertFalse(resultLesson.hasStudent(ALICE));
     }
 
+    @Test
+    public void removeStudent_afterConsultAndLessonReplaced_removedFromReplacements() {
+        AddressBook addressBooks = new AddressBook();
+        addressBooks.addStudent(ALICE);
+        Consultation emptyConsult = new ConsultationBuilder().build();
+        Lesson emptyLesson = new LessonBuilder().build();
+        addressBooks.addConsult(emptyConsult);
+        addressBooks.addLesson(emptyLesson);
+        addressBooks.setConsult(emptyConsult, new ConsultationBuilder().withStudent(ALICE).build());
+        addressBooks.setLesson(emptyLesson, new LessonBuilder().withStudent(ALICE).build());
+
+        addressBooks.removeStudent(ALICE);
+        assertFalse(addressBooks.getConsultList().get(0).hasStudent(ALICE));
+        assertFalse(addressBooks.getLessonList().get(0).hasStudent(ALICE));
+    }
+
+    @Test
+    public void setStudent_deferredLessons_onlyLoadedWhenTheyMayHaveStudent() {
+        AddressBook addressBooks = new AddressBook();
+        addressBooks.addStudent(ALICE);
+        Lesson lessonWithAlice = new LessonBuilder().withStudent(ALICE).build();
+        Lesson deferredLesson = Lesson.deferred(lessonWithAlice.getDate(), lessonWithAlice.getTime(),
+                Set.of(ALICE.getName()), lessonWithAlice::getStudentLessonInfoList);
+        Lesson otherLesson = new LessonBuilder().withTime("18:00").build();
+        Lesson otherDeferredLesson = Lesson.deferred(otherLesson.getDate(), otherLesson.getTime(),
+                Set.of(), otherLesson::getStudentLessonInfoList);
+        addressBooks.addLesson(deferredLesson);
+        addressBooks.addLesson(otherDeferredLesson);
+        assertFalse(deferredLesson.isStudentLessonInfoLoaded());
+
+        addressBooks.setStudent(ALICE, BENSON);
+        assertTrue(addressBooks.getLessonList().get(0).hasStudent(BENSON));
+        assertFalse(addressBooks.getLessonList().get(0).hasStudent(ALICE));
+        assertFalse(otherDeferredLesson.isStudentLessonInfoLoaded());
+    }
+
     @Test
     public void hasStudent_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasStudent(null));
@@ -235,6 +272,20 @@ public class AddressBookTest {
         assertThrows(LessonNotFoundException.class, () -> addressBook.setLesson(LESSON_1, LESSON_2));
     }
 
+    @Test
+    public void getVersion_afterModification_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasStudent(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addStudent(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.addConsult(CONSULT_1);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
@@ -277,6 +328,11 @@ public class AddressBookTest {
         public ObservableList<Lesson> getLessonList() {
             return lessons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -15,11 +15,13 @@ import static seedu.address.testutil.TypicalStudents.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.LessonBuilder;
@@ -94,6 +96,23 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasStudent(ALICE));
     }
 
+    @Test
+    public void addStudents_studentsFilteredOut_allStudentsShown() {
+        modelManager.addStudent(ALICE);
+        modelManager.updateFilteredStudentList(student -> false);
+        modelManager.addStudents(Arrays.asList(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void findStudentByName_studentFilteredOut_returnsStudent() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentList(student -> student.equals(BENSON));
+        assertEquals(Optional.of(ALICE), modelManager.findStudentByName(ALICE.getName()));
+        assertEquals(Optional.empty(), modelManager.findStudentByName(new Name("Alice")));
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
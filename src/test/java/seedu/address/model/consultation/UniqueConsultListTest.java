@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -67,16 +68,45 @@ public class UniqueConsultListTest {
     }
 
     @Test
-    public void sort_consultsSortedByDateAndTime_success() {
+    public void addAll_consultsOutOfOrder_mergedInOrder() {
+        Consultation consult3 = new Consultation(new Date("2024-10-22"), new Time("09:00"), new ArrayList<>());
+        uniqueConsultList.add(consult2);
+        uniqueConsultList.addAll(List.of(consult3, consult1));
+        assertEquals(List.of(consult1, consult2, consult3), uniqueConsultList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateConsultations_throwsDuplicateConsultationException() {
+        uniqueConsultList.add(consult1);
+        assertThrows(DuplicateConsultationException.class, () -> uniqueConsultList.addAll(List.of(consult1)));
+        assertThrows(DuplicateConsultationException.class, () -> uniqueConsultList.addAll(
+                List.of(consult2, new Consultation(consult2))));
+        assertEquals(List.of(consult1), uniqueConsultList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_consultsOutOfOrder_sortedByDateAndTime() {
         uniqueConsultList.add(consult2);
         uniqueConsultList.add(consult1);
-        uniqueConsultList.sort();
 
         List<Consultation> sortedList = uniqueConsultList.asUnmodifiableObservableList();
         assertEquals(consult1, sortedList.get(0));
         assertEquals(consult2, sortedList.get(1));
     }
 
+    @Test
+    public void getNextConsultAfter_success() {
+        uniqueConsultList.add(consult1);
+        uniqueConsultList.add(consult2);
+
+        assertEquals(Optional.of(consult1), uniqueConsultList.getNextConsultAfter(new Date("2024-10-20"),
+                new Time("13:59")));
+        assertEquals(Optional.of(consult2), uniqueConsultList.getNextConsultAfter(new Date("2024-10-20"),
+                new Time("14:00")));
+        assertEquals(Optional.empty(), uniqueConsultList.getNextConsultAfter(new Date("2024-10-21"),
+                new Time("10:00")));
+    }
+
     @Test
     public void filtered_filteredListContainsCorrectElements() {
         uniqueConsultList.add(consult1);
@@ -0,0 +1,95 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.datetime.Date;
+import seedu.address.testutil.LessonBuilder;
+
+public class AttendanceMatrixTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    /**
+     * Returns {@code count} weekly lessons with ALICE and BENSON, where ALICE attends every third lesson with
+     * 2 participation, and BENSON attends every lesson.
+     */
+    private static List<Lesson> getWeeklyLessons(int count) {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean aliceAttends = i % 3 == 0;
+            lessons.add(new LessonBuilder().withDate(FIRST_DATE.plusWeeks(i).toString())
+                    .withStudent(ALICE).withAttendanceAndParticipation(ALICE, aliceAttends, aliceAttends ? 2 : 0)
+                    .withStudent(BENSON).withAttendanceAndParticipation(BENSON, true, 0)
+                    .build());
+        }
+        return lessons;
+    }
+
+    @Test
+    public void summaries_manyLessons_success() {
+        // more than two words of lessons per student
+        AttendanceMatrix matrix = new AttendanceMatrix(List.of(ALICE, BENSON, CARL), getWeeklyLessons(150));
+        int alice = matrix.getStudentOrdinal(ALICE.getName()).getAsInt();
+        int benson = matrix.getStudentOrdinal(BENSON.getName()).getAsInt();
+        int carl = matrix.getStudentOrdinal(CARL.getName()).getAsInt();
+
+        assertEquals(150, matrix.countEnrolled(alice, 0, 150));
+        assertEquals(50, matrix.countAttended(alice, 0, 150));
+        assertEquals(100, matrix.getTotalParticipation(alice, 0, 150));
+        assertEquals(2, matrix.getLongestAbsenceStreak(alice, 0, 150));
+        assertEquals(150, matrix.countAttended(benson, 0, 150));
+        assertEquals(0, matrix.getLongestAbsenceStreak(benson, 0, 150));
+        assertEquals(0, matrix.countEnrolled(carl, 0, 150));
+
+        // ranges within and across words
+        assertEquals(2, matrix.countAttended(alice, 1, 7));
+        assertEquals(70, matrix.countAttended(benson, 60, 130));
+        assertEquals(0, matrix.countAttended(benson, 64, 64));
+        assertEquals(1, matrix.getLongestAbsenceStreak(alice, 2, 4));
+    }
+
+    @Test
+    public void getFirstLesson_dates_success() {
+        AttendanceMatrix matrix = new AttendanceMatrix(List.of(ALICE), getWeeklyLessons(3));
+        assertEquals(0, matrix.getFirstLessonOnOrAfter(new Date("2023-12-01")));
+        assertEquals(1, matrix.getFirstLessonOnOrAfter(new Date("2024-01-08")));
+        assertEquals(2, matrix.getFirstLessonAfter(new Date("2024-01-08")));
+        assertEquals(3, matrix.getFirstLessonAfter(new Date("2024-01-15")));
+    }
+
+    @Test
+    public void countAttended_invalidRange_throwsIndexOutOfBoundsException() {
+        AttendanceMatrix matrix = new AttendanceMatrix(List.of(ALICE), getWeeklyLessons(3));
+        assertEquals(OptionalInt.empty(), matrix.getStudentOrdinal(BENSON.getName()));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.countAttended(0, 2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.countAttended(0, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.countAttended(1, 0, 1));
+    }
+
+    @Test
+    public void getAttendanceMatrix_addressBookChanged_rebuilt() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(ALICE);
+        addressBook.addStudent(BENSON);
+        AttendanceMatrix matrix = addressBook.getAttendanceMatrix();
+        assertSame(matrix, addressBook.getAttendanceMatrix());
+
+        getWeeklyLessons(2).forEach(addressBook::addLesson);
+        AttendanceMatrix rebuiltMatrix = addressBook.getAttendanceMatrix();
+        assertEquals(2, rebuiltMatrix.getLessons().size());
+        assertEquals(2, rebuiltMatrix.countAttended(1, 0, 2));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.course.Course;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class AttendanceReportTest {
+
+    /**
+     * Returns {@code number} written in base 26 with the letters A to Z as digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.insert(0, (char) ('A' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    @Test
+    public void of_manyStudents_summariesInStudentOrder() {
+        // enough students for the summaries to be split between several tasks
+        List<Student> students = new ArrayList<>();
+        LessonBuilder lessonBuilder = new LessonBuilder();
+        for (int i = 0; i < 300; i++) {
+            Student student = new StudentBuilder().withName("Student " + toLetters(i)).withEmail("student" + i + "@example.com")
+                    .withCourses(i % 2 == 0 ? "CS2103T" : "CS2101").build();
+            students.add(student);
+            boolean isPresent = i % 3 == 0;
+            lessonBuilder.withStudent(student).withAttendanceAndParticipation(student, isPresent, isPresent ? 1 : 0);
+        }
+        AttendanceReport report = AttendanceReport.of(new AttendanceMatrix(students, List.of(lessonBuilder.build())),
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        assertEquals(300, report.getStudentSummaries().size());
+        for (int i = 0; i < 300; i++) {
+            AttendanceReport.StudentSummary summary = report.getStudentSummaries().get(i);
+            assertEquals(students.get(i), summary.getStudent());
+            assertEquals(i % 3 == 0 ? 1 : 0, summary.getLessonsAttended());
+        }
+
+        List<AttendanceReport.CourseSummary> courseSummaries = report.getCourseSummaries();
+        assertEquals(new Course("CS2101"), courseSummaries.get(0).getCourse());
+        assertEquals(150, courseSummaries.get(0).getStudentCount());
+        assertEquals(50, courseSummaries.get(0).getTotalParticipation());
+        assertEquals(new Course("CS2103T"), courseSummaries.get(1).getCourse());
+        assertEquals(50, courseSummaries.get(1).getTotalParticipation());
+    }
+
+    @Test
+    public void of_course_onlyCourseSummarised() {
+        Student student = new StudentBuilder().withCourses("CS2103T", "CS2101").build();
+        AttendanceReport report = AttendanceReport.of(new AttendanceMatrix(List.of(student), List.of()),
+                Optional.of(new Course("CS2101")), Optional.empty(), Optional.empty());
+
+        assertEquals(1, report.getStudentSummaries().size());
+        assertEquals(0.0, report.getStudentSummaries().get(0).getAttendanceRate());
+        assertEquals(1, report.getCourseSummaries().size());
+        assertEquals(new Course("CS2101"), report.getCourseSummaries().get(0).getCourse());
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.datetime.Date;
 import seedu.address.model.datetime.Time;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.StudentBuilder;
 
@@ -42,6 +45,35 @@ public class LessonTest {
         assertThrows(NullPointerException.class, () -> new Lesson(date, null));
     }
 
+    @Test
+    public void deferred_studentLessonInfoUsed_loadedOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Lesson lesson = Lesson.deferred(date, time, Set.of(student1.getName()), () -> {
+            loadCount.incrementAndGet();
+            return List.of(new StudentLessonInfo(student1, true, 1));
+        });
+        assertFalse(lesson.isStudentLessonInfoLoaded());
+        assertEquals(date, lesson.getDate());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(new Lesson(date, time, List.of(new StudentLessonInfo(student1, true, 1))), lesson);
+        lesson.addStudent(student2);
+        assertTrue(lesson.isStudentLessonInfoLoaded());
+        assertEquals(List.of(student1, student2), lesson.getStudents());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void getPossibleStudentNames_deferred_usesGivenNamesUntilLoaded() {
+        Lesson lesson = Lesson.deferred(date, time, Set.of(student1.getName()), () ->
+                List.of(new StudentLessonInfo(student1, true, 1)));
+        assertEquals(Set.of(student1.getName()), lesson.getPossibleStudentNames());
+        assertFalse(lesson.isStudentLessonInfoLoaded());
+
+        lesson.addStudent(student2);
+        assertEquals(Set.of(student1.getName(), student2.getName()), lesson.getPossibleStudentNames());
+    }
+
     @Test
     public void getDate_success() {
         Lesson lesson = new Lesson(date, time);
@@ -90,6 +122,24 @@ public class LessonTest {
         assertEquals(lesson.getParticipation(student2), 1);
     }
 
+    @Test
+    public void setStudent_renamedStudent_keepsPlaceInLesson() {
+        Student student3 = new StudentBuilder().withName("Carl Kurz").build();
+        Lesson lesson = new Lesson(date, time, List.of(
+                new StudentLessonInfo(student1, true, 1),
+                new StudentLessonInfo(student2, false, 0)));
+        lesson.setStudent(student1, student3);
+        assertEquals(List.of(student3, student2), lesson.getStudents());
+        assertThrows(DuplicateStudentException.class, () -> lesson.setStudent(student3, student2));
+    }
+
+    @Test
+    public void constructor_duplicateStudents_throwsDuplicateStudentException() {
+        assertThrows(DuplicateStudentException.class, () -> new Lesson(date, time, List.of(
+                new StudentLessonInfo(student1, true, 1),
+                new StudentLessonInfo(student1, false, 0))));
+    }
+
     @Test
     public void getAttendance_studentExists_success() {
         boolean attendance = true;
@@ -151,6 +201,17 @@ public class LessonTest {
         assertEquals(lesson.getParticipation(student1), newParticipation);
     }
 
+    @Test
+    public void setParticipationAndAttendance_multipleStudents_orderUnchanged() {
+        Lesson lesson = new Lesson(date, time, List.of(
+                new StudentLessonInfo(student1, false, 0),
+                new StudentLessonInfo(student2, false, 0)));
+        lesson.setParticipation(student1, 3);
+        lesson.setAttendance(student1, true);
+        assertEquals(List.of(new StudentLessonInfo(student1, true, 3), new StudentLessonInfo(student2, false, 0)),
+                lesson.getStudentLessonInfoList());
+    }
+
     @Test
     public void setParticipation_studentDoesNotExist_throwsStudentNotFoundException() {
         Lesson lesson = new Lesson(date, time, List.of(
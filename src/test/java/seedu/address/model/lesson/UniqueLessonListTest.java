@@ -41,6 +41,23 @@ public class UniqueLessonListTest {
         assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.add(lesson1));
     }
 
+    @Test
+    public void addAll_lessonsOutOfOrder_mergedInOrder() {
+        Lesson lesson3 = new Lesson(new Date("2099-12-31"), new Time("23:59"));
+        uniqueLessonList.add(lesson2);
+        uniqueLessonList.addAll(List.of(lesson3, lesson1));
+        assertEquals(List.of(lesson1, lesson2, lesson3), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateLessons_throwsDuplicateLessonException() {
+        uniqueLessonList.add(lesson1);
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.addAll(List.of(lesson1)));
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.addAll(
+                List.of(lesson2, new Lesson(lesson2))));
+        assertEquals(List.of(lesson1), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setLesson_existingLesson_success() {
         uniqueLessonList.add(lesson1);
@@ -67,16 +84,38 @@ public class UniqueLessonListTest {
     }
 
     @Test
-    public void sort_lessonsSortedByDateAndTime_success() {
+    public void add_lessonsOutOfOrder_sortedByDateAndTime() {
         uniqueLessonList.add(lesson2);
         uniqueLessonList.add(lesson1);
-        uniqueLessonList.sort();
 
         List<Lesson> sortedList = uniqueLessonList.asUnmodifiableObservableList();
         assertEquals(lesson1, sortedList.get(0));
         assertEquals(lesson2, sortedList.get(1));
     }
 
+    @Test
+    public void setLesson_editedLessonLater_movedToSortedPosition() {
+        uniqueLessonList.add(lesson1);
+        uniqueLessonList.add(lesson2);
+        Lesson editedLesson = new Lesson(new Date("2024-11-03"), new Time("08:00"));
+        uniqueLessonList.setLesson(lesson1, editedLesson);
+        assertEquals(List.of(lesson2, editedLesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getLessonsBetween_datesInclusive_success() {
+        Lesson lesson3 = new Lesson(new Date("2024-11-02"), new Time("23:59"));
+        Lesson lesson4 = new Lesson(new Date("2024-11-03"), new Time("00:00"));
+        uniqueLessonList.setLessons(List.of(lesson4, lesson2, lesson1, lesson3));
+
+        assertEquals(List.of(lesson2, lesson3),
+                uniqueLessonList.getLessonsBetween(new Date("2024-11-02"), new Date("2024-11-02")));
+        assertEquals(List.of(lesson1, lesson2, lesson3, lesson4),
+                uniqueLessonList.getLessonsBetween(new Date("2024-10-01"), new Date("2024-12-01")));
+        assertEquals(List.of(),
+                uniqueLessonList.getLessonsBetween(new Date("2024-11-03"), new Date("2024-11-01")));
+    }
+
     @Test
     public void filtered_filteredListContainsCorrectElements() {
         uniqueLessonList.add(lesson1);
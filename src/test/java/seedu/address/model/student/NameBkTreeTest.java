@@ -0,0 +1,54 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameBkTreeTest {
+
+    private final NameBkTree tree = new NameBkTree();
+
+    @BeforeEach
+    public void setUp() {
+        tree.add("meier", BENSON);
+        tree.add("meier", DANIEL);
+        tree.add("alice", ALICE);
+        tree.add("kurz", CARL);
+    }
+
+    @Test
+    public void search_withinDistance_groupedByDistance() {
+        assertEquals(List.of(Set.of(), Set.of(BENSON, DANIEL), Set.of()), tree.search("meyer", 2));
+        assertEquals(List.of(Set.of(ALICE)), tree.search("alice", 0));
+        assertEquals(List.of(Set.of(), Set.of(CARL)), tree.search("kunz", 1));
+        assertEquals(List.of(Set.of(), Set.of()), tree.search("bob", 1));
+    }
+
+    @Test
+    public void search_emptyTree_noResults() {
+        assertEquals(List.of(Set.of(), Set.of()), new NameBkTree().search("alice", 1));
+    }
+
+    @Test
+    public void remove_students_noLongerFound() {
+        tree.remove("meier", BENSON);
+        assertEquals(List.of(Set.of(DANIEL)), tree.search("meier", 0));
+
+        // most nodes empty, so the tree is rebuilt without them
+        tree.remove("meier", DANIEL);
+        tree.remove("kurz", CARL);
+        assertEquals(List.of(Set.of(ALICE), Set.of(), Set.of()), tree.search("alice", 2));
+        assertEquals(List.of(Set.of(), Set.of(), Set.of()), tree.search("meier", 2));
+
+        tree.add("meier", BENSON);
+        assertEquals(List.of(Set.of(BENSON)), tree.search("meier", 0));
+    }
+}
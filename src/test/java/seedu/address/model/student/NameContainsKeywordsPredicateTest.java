@@ -78,6 +78,23 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").build()));
     }
 
+    @Test
+    public void test_fuzzyKeyword_matchesCloseWords() {
+        // one typo allowed in a word of three to five characters
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("~Alise"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alina Bob").build()));
+
+        // two typos allowed in a longer word
+        predicate = new NameContainsKeywordsPredicate(List.of("~Powline"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Pauline").build()));
+
+        // no typos allowed in a short word, and fuzzy keywords match whole words only
+        predicate = new NameContainsKeywordsPredicate(List.of("~Al"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice").build()));
+        assertTrue(predicate.test(new StudentBuilder().withName("Al Bob").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
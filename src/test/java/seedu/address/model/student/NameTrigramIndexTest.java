@@ -0,0 +1,58 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(DANIEL); // Daniel Meier
+    }
+
+    private Set<Student> find(String keyword) {
+        Set<Student> results = new HashSet<>();
+        index.addStudentsWithNameContaining(keyword, results);
+        return results;
+    }
+
+    @Test
+    public void addStudentsWithNameContaining_longKeyword_matchesSubstringIgnoringCase() {
+        assertEquals(Set.of(BENSON, DANIEL), find("MEIER"));
+        assertEquals(Set.of(DANIEL), find("iel mei"));
+        assertEquals(Set.of(ALICE), find("alice pauline"));
+    }
+
+    @Test
+    public void addStudentsWithNameContaining_shortKeyword_matchesSubstringIgnoringCase() {
+        assertEquals(Set.of(BENSON, DANIEL), find("ie"));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), find("E"));
+    }
+
+    @Test
+    public void addStudentsWithNameContaining_allTrigramsButNotSubstring_noMatch() {
+        // "ein" and "ier" both occur in "Benson Meier", but "einier" does not
+        assertEquals(Set.of(), find("einier"));
+        assertEquals(Set.of(), find("xyz"));
+    }
+
+    @Test
+    public void remove_student_noLongerFound() {
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), find("meier"));
+        index.clear();
+        assertEquals(Set.of(), find("meier"));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.student;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_CS2101;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_CS2103T;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
@@ -11,6 +12,8 @@ import static seedu.address.testutil.TypicalStudents.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +60,25 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newStudents_addedAndIndexed() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(List.of(BOB));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(ALICE);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertEquals(Optional.of(BOB), uniqueStudentList.find(BOB.getName()));
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(List.of(BOB, BOB)));
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -101,6 +123,14 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void contains_afterIdentityChanged_tracksNewIdentity() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
         uniqueStudentList.add(ALICE);
@@ -124,6 +154,48 @@ public class UniqueStudentListTest {
         uniqueStudentList.remove(ALICE);
         UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void getStudentsTakingAnyOf_afterChanges_tracksCourses() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertEquals(Set.of(BOB), Set.copyOf(uniqueStudentList.getStudentsTakingAnyOf(List.of(VALID_COURSE_CS2101))));
+        assertEquals(Set.of(ALICE, BOB), Set.copyOf(uniqueStudentList.getStudentsTakingAnyOf(
+                List.of(VALID_COURSE_CS2101, VALID_COURSE_CS2103T))));
+
+        Student editedBob = new StudentBuilder(BOB).withCourses(VALID_COURSE_CS2103T).build();
+        uniqueStudentList.setStudent(BOB, editedBob);
+        assertTrue(uniqueStudentList.getStudentsTakingAnyOf(List.of(VALID_COURSE_CS2101)).isEmpty());
+
+        uniqueStudentList.remove(ALICE);
+        assertEquals(Set.of(editedBob),
+                Set.copyOf(uniqueStudentList.getStudentsTakingAnyOf(List.of(VALID_COURSE_CS2103T))));
+    }
+
+    @Test
+    public void getStudentsWithNameNear_typos_closestFirst() {
+        Student aliceTan = new StudentBuilder().withName("Alice Tan").build();
+        Student alicePaul = new StudentBuilder().withName("Alice Paul").build();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(aliceTan);
+        uniqueStudentList.add(alicePaul);
+
+        // "Alice Pauline" is 3 edits away, and "Alice Tan" is further
+        assertEquals(List.of(alicePaul), uniqueStudentList.getStudentsWithNameNear("alice paull", 2));
+        assertEquals(List.of(alicePaul, ALICE), uniqueStudentList.getStudentsWithNameNear("ALICE PAULL", 3));
+
+        uniqueStudentList.setStudent(alicePaul, new StudentBuilder().withName("Bob Paul").build());
+        assertEquals(List.of(), uniqueStudentList.getStudentsWithNameNear("alice paull", 2));
+    }
+
+    @Test
+    public void getStudentsWithNameWordNear_typo_studentsWithCloseWord() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertEquals(Set.of(ALICE), Set.copyOf(uniqueStudentList.getStudentsWithNameWordNear("PAULINA", 1)));
+        assertTrue(uniqueStudentList.getStudentsWithNameWordNear("paula", 1).isEmpty());
     }
 
     @Test
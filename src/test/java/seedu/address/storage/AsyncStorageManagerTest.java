@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentOnlyAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<IOException> writeFailures = new ArrayList<>();
+
+    private AsyncStorageManager createStorageManager(AddressBookStorage addressBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new AsyncStorageManager(addressBookStorage, userPrefsStorage, writeFailures::add);
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_written() throws Exception {
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")));
+        AddressBook original = getTypicalStudentOnlyAddressBook();
+
+        storageManager.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addStudent(HOON); // changes after saving are not part of the save
+        storageManager.flush();
+
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalesced() throws Exception {
+        CountDownLatch isFirstWriteStarted = new CountDownLatch(1);
+        CountDownLatch isFirstWriteAllowed = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (writeCount.incrementAndGet() == 1) {
+                            isFirstWriteStarted.countDown();
+                            try {
+                                isFirstWriteAllowed.await();
+                            } catch (InterruptedException e) {
+                                throw new IOException(e);
+                            }
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                });
+        AddressBook original = getTypicalStudentOnlyAddressBook();
+
+        storageManager.saveAddressBook(original);
+        isFirstWriteStarted.await();
+        original.addStudent(HOON);
+        storageManager.saveAddressBook(original);
+        original.addStudent(IDA);
+        storageManager.saveAddressBook(original);
+        isFirstWriteAllowed.countDown();
+        storageManager.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfJournalledSaves_appendedOnce() throws Exception {
+        CountDownLatch isSnapshotWriteStarted = new CountDownLatch(1);
+        CountDownLatch isSnapshotWriteAllowed = new CountDownLatch(1);
+        Path filePath = testFolder.resolve("ab");
+        AsyncStorageManager storageManager = createStorageManager(new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        isSnapshotWriteStarted.countDown();
+                        try {
+                            isSnapshotWriteAllowed.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                }));
+        AddressBook original = getTypicalStudentOnlyAddressBook();
+
+        storageManager.saveAddressBook(original);
+        isSnapshotWriteStarted.await();
+        original.addStudent(HOON);
+        storageManager.saveAddressBook(original);
+        original.addStudent(IDA);
+        storageManager.saveAddressBook(original);
+        isSnapshotWriteAllowed.countDown();
+        storageManager.flush();
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_reportedAtOnceAndNotRethrown() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AtomicInteger writeCount = new AtomicInteger();
+        CountDownLatch isFailureReported = new CountDownLatch(1);
+        AsyncStorageManager storageManager = new AsyncStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (writeCount.incrementAndGet() == 1) {
+                            throw failure;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                }, new JsonUserPrefsStorage(testFolder.resolve("prefs")), e -> {
+                    writeFailures.add(e);
+                    isFailureReported.countDown();
+                });
+        AddressBook original = getTypicalStudentOnlyAddressBook();
+
+        storageManager.saveAddressBook(original);
+        isFailureReported.await();
+        assertEquals(List.of(failure), writeFailures);
+
+        // the next save is not failed by the earlier write
+        original.addStudent(HOON);
+        storageManager.saveAddressBook(original);
+        storageManager.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(List.of(failure), writeFailures);
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+
+        storageManager.saveAddressBook(getTypicalStudentOnlyAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storageManager::flush);
+        assertEquals(failure, writeFailures.get(0));
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalLessons.LESSON_3;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.HOON;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lessons_loadedOnUse() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertFalse(read.getLessonList().isEmpty());
+        read.getLessonList().forEach(lesson -> assertFalse(lesson.isStudentLessonInfoLoaded()));
+
+        // the names in each roster are read up front
+        for (int i = 0; i < original.getLessonList().size(); i++) {
+            assertEquals(original.getLessonList().get(i).getPossibleStudentNames(),
+                    read.getLessonList().get(i).getPossibleStudentNames());
+        }
+        read.getLessonList().forEach(lesson -> assertFalse(lesson.isStudentLessonInfoLoaded()));
+
+        // rosters that were never loaded are written unchanged
+        storage.saveAddressBook(read);
+        read.getLessonList().forEach(lesson -> assertFalse(lesson.isStudentLessonInfoLoaded()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original.getLessonList(), read.getLessonList());
+    }
+
+    @Test
+    public void readAddressBook_studentEdited_onlyLessonsWithStudentLoaded() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook read = (AddressBook) storage.readAddressBook().get();
+        read.setStudent(CARL, new StudentBuilder(CARL).withPhone("99999999").build());
+        read.getLessonList().forEach(lesson ->
+                assertEquals(lesson.equals(LESSON_3), lesson.isStudentLessonInfoLoaded()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRoster_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // the last byte belongs to the roster of the last lesson
+        bytes[bytes.length - 1]++;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.writeString(filePath, "not a binary address book");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void convert_betweenFormats_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = AddressBookFileConverter.withFileExtension(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(testFolder.resolve("ab.bin"), binaryFilePath);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookStorage binaryStorage = AddressBookFileConverter.createStorage(binaryFilePath,
+                DataFileFormat.BINARY);
+        assertTrue(AddressBookFileConverter.convert(new JsonAddressBookStorage(jsonFilePath), binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        Path convertedBackFilePath = testFolder.resolve("converted.json");
+        AddressBookFileConverter.convert(binaryStorage, new JsonAddressBookStorage(convertedBackFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedBackFilePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void openStorage_pathWithOtherFormatExtension_convertsOtherFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        byte[] jsonBytes = Files.readAllBytes(jsonFilePath);
+
+        // The default .json path with the binary format opens the .bin file, converted from the .json file
+        AddressBookStorage binaryStorage = AddressBookFileConverter.openStorage(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(testFolder.resolve("ab.bin"), binaryStorage.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        binaryStorage.saveAddressBook(new AddressBook());
+        assertTrue(Arrays.equals(jsonBytes, Files.readAllBytes(jsonFilePath)));
+
+        // Once the .bin file exists, it is used as it is
+        AddressBookStorage reopenedStorage = AddressBookFileConverter.openStorage(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(new AddressBook(), new AddressBook(reopenedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void openStorage_existingFileWithoutFormatExtension_usedAsItIs() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (String fileName : List.of("tahub", "ab.data")) {
+            Path filePath = testFolder.resolve(fileName);
+            new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+            AddressBookStorage storage = AddressBookFileConverter.openStorage(filePath, DataFileFormat.JSON);
+            assertEquals(filePath, storage.getAddressBookFilePath());
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+            assertFalse(Files.exists(AddressBookFileConverter.withFileExtension(filePath, DataFileFormat.JSON)));
+        }
+    }
+
+    @Test
+    public void openStorage_noDataFile_emptyResult() throws Exception {
+        AddressBookStorage storage = AddressBookFileConverter.openStorage(testFolder.resolve("ab.json"),
+                DataFileFormat.BINARY);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws IOException, DataLoadingException {
+        assertFalse(AddressBookFileConverter.convert(new JsonAddressBookStorage(testFolder.resolve("none.json")),
+                new BinaryAddressBookStorage(testFolder.resolve("none.bin"))));
+        assertFalse(Files.exists(testFolder.resolve("none.bin")));
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ConsultationBuilder;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original, filePath);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        original.addStudent(HOON);
+        storage.saveAddressBook(original, filePath);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original, filePath);
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("91234567").build();
+        original.setStudent(BENSON, editedBenson);
+        Consultation consult = new ConsultationBuilder().withDate("2024-10-22").withTime("09:00")
+                .withStudent(HOON).build();
+        original.addConsult(consult);
+        storage.saveAddressBook(original, filePath);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        // a fresh storage replays the journal on top of the snapshot
+        AddressBook readBack = new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original, filePath);
+        storage.saveAddressBook(original, filePath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+
+        storage.saveAddressBook(original, filePath);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original, filePath);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original, filePath);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unreadableJournalTail_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original, filePath);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original, filePath);
+        Files.writeString(journalFilePath, "{\"students\":[{\"fr", StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_trackedAfterRead_firstSaveAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        storage.trackAddressBook(original, filePath);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unreadableJournalTail_overwrittenByNextEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook saved = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(saved);
+        saved.addStudent(HOON);
+        storage.saveAddressBook(saved);
+        Files.writeString(journalFilePath, "{\"students\":[{\"fr", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = new AddressBook(reopened.readAddressBook().get());
+        reopened.trackAddressBook(original, filePath);
+        original.removeStudent(ALICE);
+        reopened.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshot_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addStudent(HOON);
+        original.addLesson(new LessonBuilder().withDate("2024-11-11").withTime("09:00").withStudent(HOON).build());
+        storage.saveAddressBook(original);
+        original.setStudent(BENSON, new StudentBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_lessonsMergedIntoList_onlyNewLessonsJournalled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        Lesson earliestLesson = new LessonBuilder().withDate("2024-10-01").withTime("09:00").build();
+        Lesson middleLesson = new LessonBuilder().withDate("2024-11-04").withTime("09:00").build();
+        original.addLessons(List.of(middleLesson, earliestLesson));
+        storage.saveAddressBook(original);
+
+        JsonAdaptedAddressBookChange change = JsonUtil.fromJsonString(Files.readString(journalFilePath),
+                JsonAdaptedAddressBookChange.class);
+        List<JsonAdaptedLesson> journalledLessons = new ArrayList<>();
+        for (JsonAdaptedListChange<JsonAdaptedLesson> lessonChange : change.getLessonChanges()) {
+            assertTrue(lessonChange.getRemoved().isEmpty());
+            journalledLessons.addAll(lessonChange.getAdded());
+        }
+        assertEquals(List.of(new JsonAdaptedLesson(earliestLesson), new JsonAdaptedLesson(middleLesson)),
+                journalledLessons);
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_studentsReordered_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        List<Student> reversedStudents = new ArrayList<>(original.getStudentList());
+        Collections.reverse(reversedStudents);
+        original.setStudents(reversedStudents);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lessonStudentRemovedLater_replayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        original.addLesson(new LessonBuilder().withDate("2024-11-11").withTime("09:00").withStudent(HOON).build());
+        storage.saveAddressBook(original);
+        original.removeStudent(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get()));
+    }
+}
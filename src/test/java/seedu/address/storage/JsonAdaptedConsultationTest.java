@@ -22,7 +22,7 @@ public class JsonAdaptedConsultationTest {
     private static final AddressBook testAddressBook = getTypicalAddressBook();
     private static final String VALID_DATE = "2024-10-22";
     private static final String VALID_TIME = "14:00";
-    private static final List<JsonAdaptedStudent> VALID_STUDENTS = List.of();
+    private static final List<JsonAdaptedStudentReference> VALID_STUDENTS = List.of();
     private static final String INVALID_DATE = "2024-13-32";
     private static final String INVALID_TIME = "25:66";
 
@@ -77,7 +77,7 @@ public class JsonAdaptedConsultationTest {
         Student student = new StudentBuilder().build();
         Consultation consult = new ConsultationBuilder().withStudent(student).build();
         JsonAdaptedConsultation jsonConsult = new JsonAdaptedConsultation(consult);
-        String expectedMessage = String.format(JsonAdaptedConsultation.STUDENT_NOT_FOUND_MESSAGE,
+        String expectedMessage = String.format(JsonAdaptedStudentReference.STUDENT_NOT_FOUND_MESSAGE,
                 student.getName().fullName);
         assertThrows(IllegalValueException.class, expectedMessage, () -> jsonConsult.toModelType(emptyAddressBook));
     }
@@ -20,7 +20,7 @@ public class JsonAdaptedLessonTest {
 
     private static final String VALID_DATE = "2024-10-21";
     private static final String VALID_TIME = "10:00";
-    private static final JsonAdaptedStudent VALID_STUDENT = new JsonAdaptedStudent(
+    private static final JsonAdaptedStudentReference VALID_STUDENT = new JsonAdaptedStudentReference(
             new StudentBuilder().withName("Alice Pauline").build());
     private static final List<JsonAdaptedStudentLessonInfo> VALID_STUDENT_INFO = List.of(
             new JsonAdaptedStudentLessonInfo(VALID_STUDENT, true, 1));
@@ -55,6 +55,17 @@ public class JsonAdaptedLessonTest {
                 Time.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void toModelType_duplicateStudent_throwsIllegalValueException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().withName("Alice Pauline").build());
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_DATE, VALID_TIME, List.of(
+                new JsonAdaptedStudentLessonInfo(VALID_STUDENT, true, 1),
+                new JsonAdaptedStudentLessonInfo(VALID_STUDENT, false, 0)));
+        assertThrows(IllegalValueException.class, () -> lesson.toModelType(addressBook),
+                String.format(JsonAdaptedLesson.DUPLICATE_STUDENT_MESSAGE, "Alice Pauline"));
+    }
+
     @Test
     public void toModelType_validLesson_returnsLesson() throws Exception {
         // Create a student that is in the AddressBook
@@ -62,7 +73,7 @@ public class JsonAdaptedLessonTest {
         AddressBook addressBook = new AddressBook();
         addressBook.addStudent(student);
 
-        JsonAdaptedStudent jsonStudent = new JsonAdaptedStudent(student);
+        JsonAdaptedStudentReference jsonStudent = new JsonAdaptedStudentReference(student);
 
         JsonAdaptedLesson lesson = new JsonAdaptedLesson(
                 VALID_DATE, VALID_TIME, VALID_STUDENT_INFO);
@@ -84,7 +95,7 @@ public class JsonAdaptedLessonTest {
         // Convert the Lesson to JsonAdaptedLesson
         JsonAdaptedLesson jsonAdaptedLesson = new JsonAdaptedLesson(lesson);
         JsonAdaptedLesson expected = new JsonAdaptedLesson(VALID_DATE, VALID_TIME,
-                List.of(new JsonAdaptedStudentLessonInfo(new JsonAdaptedStudent(student),
+                List.of(new JsonAdaptedStudentLessonInfo(new JsonAdaptedStudentReference(student),
                         false, 0)));
 
         // Verify the converted values
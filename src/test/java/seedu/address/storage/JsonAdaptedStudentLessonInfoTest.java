@@ -11,7 +11,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.testutil.StudentBuilder;
 
 public class JsonAdaptedStudentLessonInfoTest {
-    private static final JsonAdaptedStudent VALID_STUDENT = new JsonAdaptedStudent(
+    private static final JsonAdaptedStudentReference VALID_STUDENT = new JsonAdaptedStudentReference(
             new StudentBuilder().withName("Alice Pauline").build());
     private static final JsonAdaptedStudentLessonInfo VALID_INFO = new JsonAdaptedStudentLessonInfo(
             VALID_STUDENT, true, 1);
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalConsultations.CONSULT_1;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAdaptedStudentReferenceTest {
+    private static final AddressBook testAddressBook = getTypicalAddressBook();
+
+    @Test
+    public void toModelType_existingStudent_returnsStudent() throws Exception {
+        assertEquals(ALICE, new JsonAdaptedStudentReference(ALICE).toModelType(testAddressBook));
+    }
+
+    @Test
+    public void toModelType_nonExistentStudent_throwsIllegalValueException() {
+        JsonAdaptedStudentReference reference = new JsonAdaptedStudentReference("Nobody");
+        String expectedMessage = String.format(JsonAdaptedStudentReference.STUDENT_NOT_FOUND_MESSAGE, "Nobody");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> reference.toModelType(testAddressBook));
+    }
+
+    @Test
+    public void toModelType_nullName_throwsIllegalValueException() {
+        JsonAdaptedStudentReference reference = new JsonAdaptedStudentReference((String) null);
+        assertThrows(IllegalValueException.class, JsonAdaptedStudentReference.MISSING_NAME_MESSAGE, () ->
+                reference.toModelType(testAddressBook));
+    }
+
+    @Test
+    public void json_savedAsName_readBack() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedConsultation(CONSULT_1));
+        assertEquals("{\"date\":\"2024-10-21\",\"time\":\"10:00\",\"students\":[\"Alice Pauline\"]}", json);
+        assertEquals(CONSULT_1, JsonUtil.fromJsonString(json, JsonAdaptedConsultation.class)
+                .toModelType(testAddressBook));
+    }
+
+    @Test
+    public void json_embeddedStudent_readBack() throws Exception {
+        String json = "{\"date\":\"2024-10-21\",\"time\":\"10:00\",\"students\":[{\"name\":\"Alice Pauline\","
+                + "\"phone\":\"94351253\",\"email\":\"alice@example.com\",\"courses\":[\"CS2103T\"]}]}";
+        assertEquals(CONSULT_1, JsonUtil.fromJsonString(json, JsonAdaptedConsultation.class)
+                .toModelType(testAddressBook));
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.ConsultationBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +61,15 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidStudentAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_consultsBeforeStudents_success() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.addStudent(ALICE);
+        expected.addConsult(new ConsultationBuilder().withDate("2024-10-21").withTime("10:00")
+                .withStudent(ALICE).build());
+        assertEquals(expected, new AddressBook(readAddressBook("reorderedAddressBook.json").get()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -9,6 +9,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -23,35 +27,30 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentAddressBook.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
-    public void toModelType_typicalStudentsFile_success() throws Exception {
-        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_STUDENTS_FILE,
-                JsonSerializableAddressBook.class).get();
-        AddressBook addressBookFromFile = dataFromFile.toModelType();
+    public void readModelType_typicalStudentsFile_success() throws Exception {
+        AddressBook addressBookFromFile = readModelType(TYPICAL_STUDENTS_FILE);
         AddressBook typicalStudentsAddressBook = getTypicalStudentOnlyAddressBook();
         assertEquals(addressBookFromFile, typicalStudentsAddressBook);
     }
 
     @Test
-    public void toModelType_invalidStudentFile_throwsIllegalValueException() throws Exception {
-        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_STUDENT_FILE,
-                JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    public void readModelType_invalidStudentFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_STUDENT_FILE));
     }
 
     @Test
-    public void toModelType_duplicateStudents_throwsIllegalValueException() throws Exception {
-        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
-                JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT,
-                dataFromFile::toModelType);
+    public void readModelType_duplicateStudents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, () ->
+                readModelType(DUPLICATE_STUDENT_FILE));
     }
 
     @Test
-    public void toModelType_typicalConsultsFile_success() throws Exception {
-        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_ADDRESS_BOOK_FILE,
-                JsonSerializableAddressBook.class).get();
-        AddressBook addressBookFromFile = dataFromFile.toModelType();
+    public void readModelType_typicalConsultsFile_success() throws Exception {
+        AddressBook addressBookFromFile = readModelType(TYPICAL_ADDRESS_BOOK_FILE);
         AddressBook typicalAddressBook = getTypicalAddressBook();
 
         // Check that the AddressBooks are equal, including students, consultations, and
@@ -60,4 +59,20 @@ public class JsonSerializableAddressBookTest {
         assertEquals(typicalAddressBook.getConsultList(), addressBookFromFile.getConsultList());
         assertEquals(typicalAddressBook.getLessonList(), addressBookFromFile.getLessonList());
     }
+
+    @Test
+    public void write_typicalAddressBook_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath)) {
+            JsonSerializableAddressBook.write(typicalAddressBook, generator);
+        }
+        assertEquals(typicalAddressBook, readModelType(filePath));
+    }
+
+    private AddressBook readModelType(Path filePath) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
 }
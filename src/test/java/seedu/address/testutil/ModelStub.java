@@ -1,7 +1,10 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +13,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.consultation.Consultation;
+import seedu.address.model.lesson.AttendanceMatrix;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
@@ -54,6 +58,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -114,6 +123,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addConsults(List<Consultation> consults) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteConsult(Consultation consult) {
         throw new AssertionError("This method should not be called.");
@@ -129,6 +143,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Student> getStudentsTakingAnyOf(Collection<String> courseCodes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Student> getStudentsWithNameNear(String name, int maxDistance) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Student> getStudentsWithNameWordNear(String word, int maxDistance) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasLesson(Lesson lesson) {
         throw new AssertionError("This method should not be called.");
@@ -139,6 +173,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addLessons(List<Lesson> lessons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteLesson(Lesson lesson) {
         throw new AssertionError("This method should not be called.");
@@ -153,4 +192,9 @@ public class ModelStub implements Model {
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public AttendanceMatrix getAttendanceMatrix() {
+        throw new AssertionError("This method should not be called.");
+    }
 }